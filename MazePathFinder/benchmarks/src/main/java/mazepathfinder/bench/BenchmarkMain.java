@@ -0,0 +1,32 @@
+package mazepathfinder.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the gc profiler always on, so every result
+ * comes with its allocation rate next to its throughput. Takes the usual
+ * JMH command line, for example:
+ *
+ *   java -jar benchmarks/target/benchmarks.jar Search -p maze=maze1,1000
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListProfilers()
+                || cmd.shouldListResultFormats() || cmd.shouldListWithParams()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder().parent(cmd).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+package mazepathfinder.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures printLayout. The layout goes to System.out, which is pointed
+ * at a stream that throws everything away while the benchmark runs, so
+ * what is measured is building the text and not the terminal.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LayoutBenchmark {
+
+    /** System.out before the benchmark replaced it */
+    private PrintStream console;
+
+    @Setup
+    public void silence() {
+        this.console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void restore() {
+        System.setOut(this.console);
+    }
+
+    @Benchmark
+    public void printLayout(MazeState state) {
+        state.hMaze.printLayout();
+    }
+}
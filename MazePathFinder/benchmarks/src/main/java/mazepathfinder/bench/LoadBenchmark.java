@@ -0,0 +1,33 @@
+package mazepathfinder.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import mazepathfinder.HedgeMaze;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building a HedgeMaze from its file, which reads the file and
+ * builds the grid graph.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Benchmark
+    public HedgeMaze construct(MazeState state) throws IOException {
+        return new HedgeMaze(state.file);
+    }
+}
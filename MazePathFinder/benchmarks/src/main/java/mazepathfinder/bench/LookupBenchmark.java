@@ -0,0 +1,92 @@
+package mazepathfinder.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import mazepathfinder.Coordinates;
+import mazepathfinder.HedgeMaze;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the wall lookups, connected and connects, on pairs of
+ * neighboring cells spread at random over the maze.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    /** Number of lookups done by one call of a benchmark method */
+    private static final int PAIRS = 4096;
+
+    /** Row and column of both cells of every pair */
+    private final int[] r1 = new int[PAIRS];
+    private final int[] c1 = new int[PAIRS];
+    private final int[] r2 = new int[PAIRS];
+    private final int[] c2 = new int[PAIRS];
+
+    /** The same pairs as coordinates */
+    private final Coordinates[] from = new Coordinates[PAIRS];
+    private final Coordinates[] to = new Coordinates[PAIRS];
+
+    @Setup
+    public void pickPairs(MazeState state) {
+        HedgeMaze hMaze = state.hMaze;
+        SplittableRandom random = new SplittableRandom(PAIRS);
+        for (int i = 0; i < PAIRS; i++) {
+            int r = random.nextInt(hMaze.numRows());
+            int c = random.nextInt(hMaze.numCols());
+            boolean east = random.nextBoolean();
+            int nr = east || r == hMaze.numRows() - 1 ? r : r + 1;
+            int nc = nr == r && c < hMaze.numCols() - 1 ? c + 1 : c;
+            r1[i] = r;
+            c1[i] = c;
+            r2[i] = nr;
+            c2[i] = nc;
+            from[i] = new Coordinates(r, c);
+            to[i] = new Coordinates(nr, nc);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int connected(MazeState state) {
+        HedgeMaze hMaze = state.hMaze;
+        int open = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (hMaze.connected(r1[i], c1[i], r2[i], c2[i])) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int connects(MazeState state) {
+        HedgeMaze hMaze = state.hMaze;
+        int open = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (hMaze.connects(from[i], to[i])) {
+                open++;
+            }
+        }
+        return open;
+    }
+}
@@ -0,0 +1,79 @@
+package mazepathfinder.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import mazepathfinder.MazeGenerator;
+
+/**
+ * Finds the maze files the benchmarks run on. Names maze1 to maze7 are
+ * the mazes in the data directory, which is looked for in ./data and
+ * ../data unless the mazepathfinder.data system property points at it.
+ * A number n names a generated n by n maze, which is written to the temp
+ * directory the first time it is asked for and reused after that.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+final class MazeFiles {
+
+    /** Seed of every generated maze, so each size is always the same maze */
+    private static final long SEED = 20221107L;
+
+    private MazeFiles() {
+    }
+
+    /**
+     * @param name maze1 to maze7, or the number of rows of a generated square maze
+     * @return location of the maze file
+     */
+    static String path(String name) {
+        try {
+            if (name.chars().allMatch(Character::isDigit)) {
+                return generated(Integer.parseInt(name)).toString();
+            }
+            return dataDir().resolve(name + ".txt").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the directory holding maze1.txt to maze7.txt
+     */
+    private static Path dataDir() throws IOException {
+        String property = System.getProperty("mazepathfinder.data");
+        if (property != null) {
+            return Path.of(property);
+        }
+        for (String dir : new String[] { "data", "../data" }) {
+            if (Files.isRegularFile(Path.of(dir, "maze1.txt"))) {
+                return Path.of(dir);
+            }
+        }
+        throw new IOException("can't find the data directory, set -Dmazepathfinder.data=<dir>");
+    }
+
+    /**
+     * Writes a size by size maze made by Eller's algorithm unless it is
+     * already there. The generator streams the file, so even the largest
+     * mazes are never held in memory as text.
+     *
+     * @return location of the maze file
+     */
+    private static Path generated(int size) throws IOException {
+        Path dir = Path.of(System.getProperty("java.io.tmpdir"), "mazepathfinder-bench");
+        Path file = dir.resolve("eller-" + size + ".txt");
+        if (Files.isRegularFile(file)) {
+            return file;
+        }
+        Files.createDirectories(dir);
+        Path partial = dir.resolve(file.getFileName() + ".part");
+        new MazeGenerator(size, size, MazeGenerator.Algorithm.ELLER, SEED + size, 0).write(partial.toString());
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+}
@@ -0,0 +1,37 @@
+package mazepathfinder.bench;
+
+import java.io.IOException;
+
+import mazepathfinder.HedgeMaze;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The maze a benchmark runs on: the seven mazes of the data directory and
+ * generated square mazes from 100 by 100 to 4000 by 4000 cells. Pick a
+ * subset on the command line with -p maze=maze1,1000.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+@State(Scope.Benchmark)
+public class MazeState {
+
+    @Param({ "maze1", "maze2", "maze3", "maze4", "maze5", "maze6", "maze7",
+            "100", "500", "1000", "2000", "4000" })
+    public String maze;
+
+    /** Location of the maze file */
+    public String file;
+
+    /** The maze, loaded once per trial */
+    public HedgeMaze hMaze;
+
+    @Setup
+    public void load() throws IOException {
+        this.file = MazeFiles.path(this.maze);
+        this.hMaze = new HedgeMaze(this.file);
+    }
+}
@@ -0,0 +1,86 @@
+package mazepathfinder.bench;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import mazepathfinder.BfsEngine;
+import mazepathfinder.BreadthFirstSearch;
+import mazepathfinder.CellCosts;
+import mazepathfinder.Coordinates;
+import mazepathfinder.DijkstraPathFinder;
+import mazepathfinder.HedgeMaze;
+import mazepathfinder.HierarchicalPathFinder;
+import mazepathfinder.JunctionPathFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures BreadthFirstSearch.findPath from the top left corner to the
+ * bottom right corner, once creating the search the way the prompt used
+ * to for every query and once reusing one engine across queries, and
+ * the same query answered by the hierarchical path finder and by Dijkstra
+ * over random cell costs from 1 to 9.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    private Coordinates start;
+    private Coordinates finish;
+    private BfsEngine engine;
+    private HierarchicalPathFinder hierarchical;
+    private DijkstraPathFinder weighted;
+    private JunctionPathFinder junction;
+
+    @Setup
+    public void corners(MazeState state) {
+        HedgeMaze hMaze = state.hMaze;
+        this.start = new Coordinates(0, 0);
+        this.finish = new Coordinates(hMaze.numRows() - 1, hMaze.numCols() - 1);
+        this.engine = new BfsEngine(hMaze.getGrid());
+        this.hierarchical = new HierarchicalPathFinder(hMaze);
+        this.weighted = new DijkstraPathFinder(hMaze, CellCosts.random(hMaze.numRows(), hMaze.numCols(), 9, 1));
+        this.junction = new JunctionPathFinder(hMaze);
+    }
+
+    @Benchmark
+    public Collection<Coordinates> findPath(MazeState state) {
+        return new BreadthFirstSearch(state.hMaze, start, finish).findPath();
+    }
+
+    @Benchmark
+    public Collection<Coordinates> findPathReusingEngine(MazeState state) {
+        return new BreadthFirstSearch(state.hMaze, engine, start, finish).findPath();
+    }
+
+    @Benchmark
+    public List<Coordinates> findPathHierarchical() {
+        return hierarchical.findPath(start, finish);
+    }
+
+    @Benchmark
+    public List<Coordinates> findPathWeighted() {
+        return weighted.findPath(start, finish);
+    }
+
+    @Benchmark
+    public List<Coordinates> findPathJunction() {
+        return junction.findPath(start, finish);
+    }
+}
@@ -0,0 +1,182 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PathFinder that runs A* over the grid of a HedgeMaze. Cells are
+ * ordered by steps taken plus the Manhattan distance left to the finish,
+ * which never overestimates in a 4-connected maze, so the path found is a
+ * shortest one. Ties go to the cell furthest from the start, which keeps
+ * open areas from being flooded the way Breadth First Search floods them.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class AStarPathFinder implements PathFinder {
+
+    /** Predecessor value stored for the start cell */
+    private static final int NONE = -1;
+
+    /** Maze being searched */
+    protected final HedgeMaze hedgeMaze;
+
+    /** Grid of the maze */
+    protected final GridGraph grid;
+
+    /** Best number of steps found so far to each cell */
+    private final int[] g;
+
+    /** Predecessor of each cell on its best path so far */
+    private final int[] pred;
+
+    /** Query number that last reached each cell */
+    private final int[] seen;
+
+    /** Query number that last expanded each cell */
+    private final int[] closed;
+
+    /** Query number of the current search */
+    private int epoch;
+
+    /** Open list keyed by estimated total length, then by steps taken */
+    private final IntMinHeap open = new IntMinHeap();
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /** Number of cells expanded by the last query */
+    private int expanded;
+
+    /** Largest size of the open list during the last query */
+    private int peakFrontier;
+
+    /**
+     * Constructor for the A* path finder
+     *
+     * @param hedgeMaze maze to search
+     */
+    public AStarPathFinder(HedgeMaze hedgeMaze) {
+        this.hedgeMaze = hedgeMaze;
+        this.grid = hedgeMaze.getGrid();
+        this.g = new int[grid.size()];
+        this.pred = new int[grid.size()];
+        this.seen = new int[grid.size()];
+        this.closed = new int[grid.size()];
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        int startCell = hedgeMaze.toCell(start);
+        int finishCell = hedgeMaze.toCell(finish);
+        int mark = nextEpoch();
+        IntMinHeap open = this.open;
+        open.clear();
+        this.expanded = 0;
+        this.peakFrontier = 1;
+
+        seen[startCell] = mark;
+        g[startCell] = 0;
+        pred[startCell] = NONE;
+        open.push(key(0, estimate(startCell, finishCell)), startCell);
+        while (!open.isEmpty()) {
+            if (open.size() > this.peakFrontier) {
+                this.peakFrontier = open.size();
+            }
+            int current = open.pop();
+            if (closed[current] == mark) {
+                continue;
+            }
+            closed[current] = mark;
+            this.expanded++;
+            if (current == finishCell) {
+                return buildPath(finishCell);
+            }
+            int steps = g[current] + 1;
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (seen[nbr] != mark || steps < g[nbr]) {
+                    seen[nbr] = mark;
+                    g[nbr] = steps;
+                    pred[nbr] = current;
+                    open.push(key(steps, estimate(nbr, finishCell)), nbr);
+                }
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Lower bound on the number of steps between two cells. Subclasses can
+     * give a tighter bound as long as it never overestimates.
+     *
+     * @param cell cell to estimate from
+     * @param goal cell the search is heading to
+     * @return Manhattan distance between the two cells
+     */
+    protected int estimate(int cell, int goal) {
+        return Math.abs(grid.rowOf(cell) - grid.rowOf(goal))
+                + Math.abs(grid.colOf(cell) - grid.colOf(goal));
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.expanded;
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    @Override
+    public String getName() {
+        return "astar";
+    }
+
+    /**
+     * Orders by estimated total length first and prefers the most steps
+     * taken when two cells tie
+     *
+     * @param steps steps taken to the cell
+     * @param estimate steps estimated to the finish
+     * @return heap key of the cell
+     */
+    private static long key(int steps, int estimate) {
+        return ((long) (steps + estimate) << 32) | (Integer.MAX_VALUE - steps);
+    }
+
+    /**
+     * Walks the predecessors back from the finish to build the path
+     *
+     * @param finishCell cell the path ends at
+     * @return the coordinates from the start to the finish
+     */
+    private List<Coordinates> buildPath(int finishCell) {
+        Coordinates[] path = new Coordinates[g[finishCell] + 1];
+        int at = finishCell;
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = hedgeMaze.toCoordinates(at);
+            at = pred[at];
+        }
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Moves on to the next query number, clearing the marks on the rare
+     * occasion the counter wraps around
+     *
+     * @return the query number to mark cells with
+     */
+    private int nextEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            Arrays.fill(this.seen, 0);
+            Arrays.fill(this.closed, 0);
+            this.epoch = 1;
+        }
+        return this.epoch;
+    }
+}
@@ -0,0 +1,189 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PathFinder that answers queries from a LandmarkIndex. When the lower
+ * and upper landmark bounds of a query meet, the path is read straight off
+ * of the landmark distances by walking downhill toward the landmark, with
+ * no search at all. Every other query runs A* with the landmark lower
+ * bound as its heuristic (ALT), which is far tighter than the Manhattan
+ * distance in a maze full of walls. The index is registered with the
+ * maze, so its distances are repaired whenever a wall changes.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class AltPathFinder extends AStarPathFinder {
+
+    /** Precomputed landmark distances */
+    private final LandmarkIndex index;
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /** Cells walked when the last query was answered from the index */
+    private int walked;
+
+    /** True if the last query was answered from the index */
+    private boolean fromIndex;
+
+    /**
+     * Constructor for the landmark path finder
+     *
+     * @param hedgeMaze maze to search
+     * @param index landmark distances built for the maze
+     */
+    public AltPathFinder(HedgeMaze hedgeMaze, LandmarkIndex index) {
+        super(hedgeMaze);
+        this.index = index;
+        hedgeMaze.addWallListener(index);
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        int s = hedgeMaze.toCell(start);
+        int t = hedgeMaze.toCell(finish);
+        this.fromIndex = true;
+        this.walked = 0;
+        int lower = index.lowerBound(s, t);
+        if (lower == LandmarkIndex.UNREACHABLE) {
+            return new ArrayList<>();
+        }
+        List<Coordinates> path = pathFromIndex(s, t, lower);
+        if (path != null) {
+            return path;
+        }
+        this.fromIndex = false;
+        return super.findPath(start, finish);
+    }
+
+    /**
+     * Length of the shortest path between two coordinates, answered from
+     * the index when its bounds meet and by a search otherwise
+     *
+     * @return number of moves, or -1 if there is no path
+     */
+    public int distance(Coordinates start, Coordinates finish) {
+        int s = hedgeMaze.toCell(start);
+        int t = hedgeMaze.toCell(finish);
+        int lower = index.lowerBound(s, t);
+        if (lower == LandmarkIndex.UNREACHABLE) {
+            return -1;
+        }
+        if (lower == index.upperBound(s, t)) {
+            return lower;
+        }
+        return findPath(start, finish).size() - 1;
+    }
+
+    /**
+     * Tries to read the path of a query straight off of the landmarks.
+     * If a detour through a landmark is as short as the lower bound, the
+     * path walks downhill from the start to the landmark and from there up
+     * to the finish. If the finish lies exactly that far behind the start
+     * as seen from a landmark, walking downhill from the finish usually
+     * passes through the start.
+     *
+     * @return the path, or null if the index can't give it
+     */
+    private List<Coordinates> pathFromIndex(int s, int t, int lower) {
+        for (int l = 0; l < index.getLandmarkCount(); l++) {
+            int ds = index.distance(l, s);
+            int dt = index.distance(l, t);
+            if (ds < 0) {
+                continue;
+            }
+            if (ds + dt == lower) {
+                int[] cells = new int[lower + 1];
+                descend(l, s, cells, 0, 1, ds);
+                descend(l, t, cells, lower, -1, dt);
+                return toPath(cells);
+            }
+            if (dt - ds == lower || ds - dt == lower) {
+                boolean finishFurther = dt > ds;
+                int[] cells = new int[lower + 1];
+                int from = finishFurther ? t : s;
+                int to = finishFurther ? s : t;
+                int end = descend(l, from, cells, finishFurther ? lower : 0,
+                        finishFurther ? -1 : 1, lower);
+                if (end == to) {
+                    return toPath(cells);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walks downhill on the distances of a landmark, writing each cell
+     *
+     * @param l landmark whose distances are followed
+     * @param cell cell to start from
+     * @param cells array the cells are written into
+     * @param at index the first cell is written at
+     * @param step +1 or -1, the direction the array is filled in
+     * @param steps number of moves to take
+     * @return the cell the walk ended at
+     */
+    private int descend(int l, int cell, int[] cells, int at, int step, int steps) {
+        cells[at] = cell;
+        for (int i = 0; i < steps; i++) {
+            int want = index.distance(l, cell) - 1;
+            int count = grid.neighbors(cell, nbrs);
+            for (int k = 0; k < count; k++) {
+                if (index.distance(l, nbrs[k]) == want) {
+                    cell = nbrs[k];
+                    break;
+                }
+            }
+            at += step;
+            cells[at] = cell;
+            this.walked++;
+        }
+        return cell;
+    }
+
+    /**
+     * @return the cells as a list of coordinates
+     */
+    private List<Coordinates> toPath(int[] cells) {
+        List<Coordinates> path = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            path.add(hedgeMaze.toCoordinates(cell));
+        }
+        return path;
+    }
+
+    /**
+     * Landmark lower bound, never worse than the Manhattan distance
+     */
+    @Override
+    protected int estimate(int cell, int goal) {
+        return Math.max(super.estimate(cell, goal), index.lowerBound(cell, goal));
+    }
+
+    /**
+     * @return cells walked if the last query was answered from the index,
+     *          otherwise cells expanded by the search
+     */
+    @Override
+    public int getNodesExpanded() {
+        return this.fromIndex ? this.walked : super.getNodesExpanded();
+    }
+
+    /**
+     * @return 0 if the last query was answered from the index, otherwise
+     *          the largest open list of the search
+     */
+    @Override
+    public int getPeakFrontier() {
+        return this.fromIndex ? 0 : super.getPeakFrontier();
+    }
+
+    @Override
+    public String getName() {
+        return "alt";
+    }
+}
@@ -0,0 +1,386 @@
+package mazepathfinder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Answers a whole file of path queries against one maze without any
+ * prompting. Every line of the query file holds "r1 c1 r2 c2", the start
+ * and the finish of one query; blank lines and lines starting with # are
+ * skipped. Queries are grouped by their start cell so that a single
+ * Breadth First Search answers every query that shares a start. A start
+ * with only one finish gains nothing from that, so it is searched from
+ * both ends instead, which expands far fewer cells.
+ *
+ * Each answer is written as the query followed by the length of the
+ * shortest path in moves, or -1 if there is none, and optionally the path
+ * itself:
+ *
+ *   r1 c1 r2 c2 length [: (r,c) (r,c) ...]
+ *
+ * or with the path as runs of moves, see setRuns:
+ *
+ *   r1 c1 r2 c2 length [: R12 D3 L7 ...]
+ *
+ * Answers come out grouped by start cell rather than in input order.
+ * The groups can be searched on several threads at once, see
+ * ParallelQueryExecutor.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class BatchQueryRunner {
+
+    /** Number of start cells answered together when running on several threads */
+    private static final int GROUP_WINDOW = 4096;
+
+    /** Holds the maze */
+    private final HedgeMaze hMaze;
+
+    /** Grid of the maze */
+    private final GridGraph grid;
+
+    /** True to write every path out along with its length */
+    private final boolean printPaths;
+
+    /** True to write paths as runs of moves instead of cells */
+    private boolean runs;
+
+    /** Start cell of every query, in input order */
+    private int[] starts = new int[1024];
+
+    /** Finish cell of every query, in input order */
+    private int[] finishes = new int[1024];
+
+    /** Number of queries read */
+    private int count;
+
+    /** Number of distinct start cells among the queries */
+    private int sources;
+
+    /** Where every search and answer is recorded, null to record nothing */
+    private SearchMetrics metrics;
+
+    /**
+     * Constructor for the batch runner
+     *
+     * @param hMaze maze to answer queries on
+     * @param printPaths true to write out paths as well as lengths
+     */
+    public BatchQueryRunner(HedgeMaze hMaze, boolean printPaths) {
+        this.hMaze = hMaze;
+        this.grid = hMaze.getGrid();
+        this.printPaths = printPaths;
+    }
+
+    /**
+     * Reads queries until the end of the input. Lines that are not four
+     * integers inside of the maze are reported and skipped.
+     *
+     * @param in source of query lines
+     * @throws IOException if the input can't be read
+     */
+    public void readQueries(BufferedReader in) throws IOException {
+        int[] nums = new int[4];
+        String line;
+        long lineNum = 0;
+        while ((line = in.readLine()) != null) {
+            lineNum++;
+            int found = parseInts(line, nums);
+            if (found == 0) {
+                continue;
+            }
+            if (found != 4) {
+                System.err.println("line " + lineNum + ": expected r1 c1 r2 c2 but found \"" + line + "\"");
+                continue;
+            }
+            if (!grid.contains(nums[0], nums[1]) || !grid.contains(nums[2], nums[3])) {
+                System.err.println("line " + lineNum + ": \"" + line + "\" is not a valid cell location.");
+                continue;
+            }
+            addQuery(grid.index(nums[0], nums[1]), grid.index(nums[2], nums[3]));
+        }
+    }
+
+    /**
+     * Adds one query
+     *
+     * @param start start cell index
+     * @param finish finish cell index
+     */
+    public void addQuery(int start, int finish) {
+        if (this.count == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, this.count * 2);
+            this.finishes = Arrays.copyOf(this.finishes, this.count * 2);
+        }
+        this.starts[this.count] = start;
+        this.finishes[this.count] = finish;
+        this.count++;
+    }
+
+    /**
+     * Answers every query read so far and writes the answers out
+     *
+     * @param out where the answers are written, buffer it for big batches
+     * @throws IOException if writing fails
+     */
+    public void run(Writer out) throws IOException {
+        run(out, 1);
+    }
+
+    /**
+     * Answers every query read so far and writes the answers out, using
+     * more than one thread if asked to. With several threads the start
+     * cells are answered a window at a time, each group into its own
+     * buffer, and the buffers are written out in order.
+     *
+     * @param out where the answers are written, buffer it for big batches
+     * @param threads number of threads to search with
+     * @throws IOException if writing fails
+     */
+    public void run(Writer out, int threads) throws IOException {
+        long[] order = groupedOrder();
+        int[] bounds = ParallelQueryExecutor.groupBoundaries(order);
+        int groups = bounds.length - 1;
+        this.sources = groups;
+        if (threads <= 1) {
+            BfsEngine engine = new BfsEngine(grid);
+            int[][] scratch = { new int[16], new int[64] };
+            for (int g = 0; g < groups; g++) {
+                answerGroup(out, engine, order, bounds[g], bounds[g + 1], scratch);
+            }
+        } else {
+            try (ParallelQueryExecutor executor = new ParallelQueryExecutor(hMaze, threads)) {
+                StringBuilder[] texts = new StringBuilder[Math.min(groups, GROUP_WINDOW)];
+                for (int first = 0; first < groups; first += GROUP_WINDOW) {
+                    int base = first;
+                    int size = Math.min(GROUP_WINDOW, groups - first);
+                    executor.run(size, (engine, g) -> {
+                        StringBuilder text = new StringBuilder();
+                        int[][] scratch = { new int[16], new int[64] };
+                        try {
+                            answerGroup(text, engine, order, bounds[base + g], bounds[base + g + 1], scratch);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        texts[g] = text;
+                    });
+                    for (int g = 0; g < size; g++) {
+                        out.append(texts[g]);
+                        texts[g] = null;
+                    }
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Runs one search for a group of queries that share a start cell and
+     * writes all of their answers. A group whose queries all go to the same
+     * finish is searched from both ends.
+     *
+     * @param out where the answers are written
+     * @param engine engine to search with
+     * @param order sorted query keys
+     * @param from index of the first key of the group
+     * @param to index one past the last key of the group
+     * @param scratch target and path arrays, replaced if they have to grow
+     */
+    private void answerGroup(Appendable out, BfsEngine engine, long[] order, int from, int to,
+                             int[][] scratch) throws IOException {
+        int size = to - from;
+        if (scratch[0].length < size) {
+            scratch[0] = new int[Math.max(size, scratch[0].length * 2)];
+        }
+        int[] targets = scratch[0];
+        for (int k = 0; k < size; k++) {
+            targets[k] = this.finishes[(int) order[from + k]];
+        }
+        int source = (int) (order[from] >>> 32);
+        boolean single = oneTarget(targets, size);
+        if (this.metrics == null) {
+            search(engine, source, targets, size, single);
+        } else {
+            long allocatedBefore = SearchMetrics.allocatedBytes();
+            long begin = System.nanoTime();
+            search(engine, source, targets, size, single);
+            long nanos = System.nanoTime() - begin;
+            long allocated = allocatedBefore < 0 ? -1 : SearchMetrics.allocatedBytes() - allocatedBefore;
+            if (this.metrics.recordSearch(nanos, engine.getExpanded(), engine.getPeakFrontier(), allocated)) {
+                this.metrics.setSlowest(nanos, size + " queries from (" + grid.rowOf(source) + ","
+                        + grid.colOf(source) + ")");
+            }
+        }
+        int singleSteps = single ? engine.distanceTo(targets[0]) : -1;
+        for (int i = from; i < to; i++) {
+            int query = (int) order[i];
+            int steps = single ? singleSteps : engine.targetDistance(this.finishes[query]);
+            if (this.metrics != null) {
+                this.metrics.recordPath(steps);
+            }
+            scratch[1] = writeAnswer(out, engine, this.starts[query], this.finishes[query], steps, scratch[1]);
+        }
+    }
+
+    /**
+     * Searches for a group, from both ends if it has a single finish
+     */
+    private static void search(BfsEngine engine, int source, int[] targets, int size, boolean single) {
+        if (single) {
+            engine.searchBidirectional(source, targets[0]);
+        } else {
+            engine.searchAll(source, targets, 0, size);
+        }
+    }
+
+    /**
+     * @return true if every one of the first size targets is the same cell
+     */
+    static boolean oneTarget(int[] targets, int size) {
+        for (int k = 1; k < size; k++) {
+            if (targets[k] != targets[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the paths of the following runs as runs of moves like
+     * "r1 c1 r2 c2 length : R12 D3 L7" instead of one cell per step,
+     * see PathEncoding. Only matters when paths are written at all.
+     *
+     * @param runs true for runs of moves, false for cells
+     */
+    public void setRuns(boolean runs) {
+        this.runs = runs;
+    }
+
+    /**
+     * Records every search and answer of the following runs
+     *
+     * @param metrics where they are recorded, null to stop recording
+     */
+    public void setMetrics(SearchMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return number of queries read
+     */
+    public int getQueryCount() {
+        return this.count;
+    }
+
+    /**
+     * @return number of searches the last run needed, one per start cell
+     */
+    public int getSourceCount() {
+        return this.sources;
+    }
+
+    /**
+     * Sorts the queries by start cell, keeping input order within a start
+     *
+     * @return start cell in the high 32 bits and query number in the low
+     *          32 bits of every query, sorted
+     */
+    private long[] groupedOrder() {
+        long[] order = new long[this.count];
+        for (int q = 0; q < this.count; q++) {
+            order[q] = ((long) this.starts[q] << 32) | q;
+        }
+        Arrays.sort(order);
+        return order;
+    }
+
+    /**
+     * Writes the answer to one query using the tree of the last search,
+     * which reached the finish in steps moves or not at all if it is -1
+     *
+     * @return the path scratch array, which may have grown
+     */
+    private int[] writeAnswer(Appendable out, BfsEngine engine, int start, int finish, int steps, int[] path)
+            throws IOException {
+        writeCell(out, start, ' ');
+        out.append(' ');
+        writeCell(out, finish, ' ');
+        out.append(' ');
+        out.append(Integer.toString(steps));
+        if (this.printPaths && steps >= 0 && this.runs) {
+            out.append(" :");
+            if (steps > 0) {
+                out.append(' ');
+                out.append(PathEncoding.format(PathEncoding.runsTo(engine, finish)));
+            }
+        } else if (this.printPaths && steps >= 0) {
+            path = engine.pathCells(finish, path);
+            out.append(" :");
+            for (int k = 0; k <= steps; k++) {
+                out.append(" (");
+                writeCell(out, path[k], ',');
+                out.append(')');
+            }
+        }
+        out.append(System.lineSeparator());
+        return path;
+    }
+
+    /**
+     * Writes the row and column of a cell with a separator between them
+     */
+    private void writeCell(Appendable out, int cell, char separator) throws IOException {
+        out.append(Integer.toString(grid.rowOf(cell)));
+        out.append(separator);
+        out.append(Integer.toString(grid.colOf(cell)));
+    }
+
+    /**
+     * Reads the whitespace separated integers of a line into an array
+     *
+     * @param line line to read
+     * @param nums array the first integers are written into
+     * @return number of integers on the line, 0 for blank and comment
+     *          lines, or -1 if anything else was found
+     */
+    static int parseInts(String line, int[] nums) {
+        int found = 0;
+        int i = 0;
+        int len = line.length();
+        while (i < len) {
+            char ch = line.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                i++;
+                continue;
+            }
+            if (ch == '#' && found == 0) {
+                return 0;
+            }
+            boolean negative = ch == '-';
+            if (negative) {
+                i++;
+            }
+            int start = i;
+            long value = 0;
+            while (i < len && line.charAt(i) >= '0' && line.charAt(i) <= '9') {
+                value = value * 10 + (line.charAt(i) - '0');
+                if (value > Integer.MAX_VALUE) {
+                    return -1;
+                }
+                i++;
+            }
+            if (i == start || (i < len && !Character.isWhitespace(line.charAt(i)))) {
+                return -1;
+            }
+            if (found < nums.length) {
+                nums[found] = (int) (negative ? -value : value);
+            }
+            found++;
+        }
+        return found;
+    }
+}
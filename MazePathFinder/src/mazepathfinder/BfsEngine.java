@@ -0,0 +1,571 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Breadth First Search over the cell indices of a GridGraph.
+ * The engine owns its queue, predecessor array and visited marks and
+ * reuses them for every query, so once it is built a search does not
+ * allocate anything. Visited marks are stamped with a query number
+ * instead of being cleared, which keeps each query proportional to the
+ * cells it actually visits rather than to the size of the maze.
+ *
+ * An engine is not thread safe, each thread needs its own.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class BfsEngine {
+
+    /** Predecessor value stored for the cell a search starts from */
+    public static final int NONE = -1;
+
+    /** The grid being searched */
+    private final GridGraph grid;
+
+    /** Predecessor of every cell reached by the last search */
+    private final int[] pred;
+
+    /** Query number that last reached each cell */
+    private final int[] stamp;
+
+    /** Query number of the current search */
+    private int epoch;
+
+    /** Frontier of the search */
+    private final IntQueue queue = new IntQueue();
+
+    /** Predecessor toward the finish of cells reached by the backward half
+     *  of a bidirectional search, allocated on first use */
+    private int[] predBack;
+
+    /** Query number that last reached each cell from the finish */
+    private int[] stampBack;
+
+    /** Frontier of the backward half of a bidirectional search */
+    private final IntQueue queueBack = new IntQueue();
+
+    /** Query number that marked each cell as a target, allocated on first use */
+    private int[] targetStamp;
+
+    /** Number of moves to each target reached by the last multi-target search */
+    private int[] targetDepth;
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /** Number of cells taken off the queue by the last search */
+    private int expanded;
+
+    /** Largest number of cells waiting in the queue during the last search */
+    private int peakFrontier;
+
+    /** Cell the last search started from */
+    private int source = NONE;
+
+    /**
+     * Creates an engine sized for the grid passed in
+     *
+     * @param grid grid to search
+     */
+    public BfsEngine(GridGraph grid) {
+        this.grid = grid;
+        this.pred = new int[grid.size()];
+        this.stamp = new int[grid.size()];
+    }
+
+    /**
+     * Runs a search from start until finish is reached or every reachable
+     * cell has been visited. Passing NONE as the finish builds the whole
+     * shortest path tree of start.
+     *
+     * @param start cell to search from
+     * @param finish cell to stop at, or NONE to visit everything reachable
+     * @return true if finish was reached
+     */
+    public boolean search(int start, int finish) {
+        int mark = nextEpoch();
+        int[] pred = this.pred;
+        int[] stamp = this.stamp;
+        int[] nbrs = this.nbrs;
+        IntQueue queue = this.queue;
+        queue.clear();
+
+        this.source = start;
+        this.expanded = 0;
+        this.peakFrontier = 1;
+        stamp[start] = mark;
+        pred[start] = NONE;
+        if (start == finish) {
+            return true;
+        }
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            if (queue.size() > this.peakFrontier) {
+                this.peakFrontier = queue.size();
+            }
+            int current = queue.remove();
+            this.expanded++;
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (stamp[nbr] != mark) {
+                    stamp[nbr] = mark;
+                    pred[nbr] = current;
+                    if (nbr == finish) {
+                        return true;
+                    }
+                    queue.add(nbr);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs a search from start until every one of a set of targets has
+     * been reached, or every reachable cell has been visited. Afterwards
+     * pathTo and distanceTo answer for each of the targets, so one search
+     * serves any number of queries that share a start, and targetDistance
+     * gives the length of each without walking its path. The search goes
+     * a whole level at a time so the depth of a target is known the moment
+     * it is reached.
+     *
+     * @param start cell to search from
+     * @param targets array holding the target cells, duplicates are fine
+     * @param from index of the first target in the array
+     * @param to index one past the last target in the array
+     * @return number of distinct targets that were reached
+     */
+    public int searchAll(int start, int[] targets, int from, int to) {
+        if (this.targetStamp == null) {
+            this.targetStamp = new int[this.stamp.length];
+            this.targetDepth = new int[this.stamp.length];
+        }
+        int mark = nextEpoch();
+        int[] pred = this.pred;
+        int[] stamp = this.stamp;
+        int[] targetStamp = this.targetStamp;
+        int[] targetDepth = this.targetDepth;
+        int[] nbrs = this.nbrs;
+        IntQueue queue = this.queue;
+        queue.clear();
+
+        int remaining = 0;
+        for (int i = from; i < to; i++) {
+            if (targetStamp[targets[i]] != mark) {
+                targetStamp[targets[i]] = mark;
+                remaining++;
+            }
+        }
+        int distinct = remaining;
+        this.source = start;
+        this.expanded = 0;
+        this.peakFrontier = 1;
+        stamp[start] = mark;
+        pred[start] = NONE;
+        if (targetStamp[start] == mark) {
+            targetDepth[start] = 0;
+            remaining--;
+        }
+        queue.add(start);
+        for (int depth = 1; remaining > 0 && !queue.isEmpty(); depth++) {
+            for (int left = queue.size(); left > 0; left--) {
+                if (queue.size() > this.peakFrontier) {
+                    this.peakFrontier = queue.size();
+                }
+                int current = queue.remove();
+                this.expanded++;
+                int count = grid.neighbors(current, nbrs);
+                for (int i = 0; i < count; i++) {
+                    int nbr = nbrs[i];
+                    if (stamp[nbr] != mark) {
+                        stamp[nbr] = mark;
+                        pred[nbr] = current;
+                        if (targetStamp[nbr] == mark) {
+                            targetDepth[nbr] = depth;
+                            if (--remaining == 0) {
+                                return distinct;
+                            }
+                        }
+                        queue.add(nbr);
+                    }
+                }
+            }
+        }
+        return distinct - remaining;
+    }
+
+    /**
+     * Runs one search from many sources at once and stops at the first
+     * target it reaches. Every source starts in the frontier at distance 0,
+     * so the first target reached is the one closest to any of the sources,
+     * and the path back from it ends at the source closest to it. Afterwards
+     * pathTo and distanceTo answer for the target that was found, and
+     * getSource gives the source its path starts at.
+     *
+     * @param sources array holding the source cells, duplicates are fine
+     * @param sourceFrom index of the first source in the array
+     * @param sourceTo index one past the last source in the array
+     * @param targets array holding the target cells, duplicates are fine
+     * @param targetFrom index of the first target in the array
+     * @param targetTo index one past the last target in the array
+     * @return the target closest to any of the sources, or NONE if no
+     *          target can be reached from any of them
+     */
+    public int searchNearest(int[] sources, int sourceFrom, int sourceTo,
+                             int[] targets, int targetFrom, int targetTo) {
+        if (this.targetStamp == null) {
+            this.targetStamp = new int[this.stamp.length];
+            this.targetDepth = new int[this.stamp.length];
+        }
+        int mark = nextEpoch();
+        int[] pred = this.pred;
+        int[] stamp = this.stamp;
+        int[] targetStamp = this.targetStamp;
+        int[] nbrs = this.nbrs;
+        IntQueue queue = this.queue;
+        queue.clear();
+
+        for (int i = targetFrom; i < targetTo; i++) {
+            targetStamp[targets[i]] = mark;
+        }
+        this.source = NONE;
+        this.expanded = 0;
+        for (int i = sourceFrom; i < sourceTo; i++) {
+            int cell = sources[i];
+            if (stamp[cell] == mark) {
+                continue;
+            }
+            stamp[cell] = mark;
+            pred[cell] = NONE;
+            if (targetStamp[cell] == mark) {
+                this.targetDepth[cell] = 0;
+                this.source = cell;
+                this.peakFrontier = queue.size();
+                return cell;
+            }
+            queue.add(cell);
+        }
+        this.peakFrontier = queue.size();
+        while (!queue.isEmpty()) {
+            if (queue.size() > this.peakFrontier) {
+                this.peakFrontier = queue.size();
+            }
+            int current = queue.remove();
+            this.expanded++;
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (stamp[nbr] != mark) {
+                    stamp[nbr] = mark;
+                    pred[nbr] = current;
+                    if (targetStamp[nbr] == mark) {
+                        int at = nbr;
+                        int steps = 0;
+                        while (pred[at] != NONE) {
+                            at = pred[at];
+                            steps++;
+                        }
+                        this.targetDepth[nbr] = steps;
+                        this.source = at;
+                        return nbr;
+                    }
+                    queue.add(nbr);
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Runs a full search from a source and records the number of moves to
+     * every cell. The distance array doubles as the visited marks, so this
+     * does not disturb the predecessors of the last search.
+     *
+     * @param source cell to measure from
+     * @param dist array with one entry per cell, filled with the distance of
+     *             each cell or -1 where the cell can't be reached
+     * @return number of cells reached, including the source
+     */
+    public int fillDistances(int source, int[] dist) {
+        Arrays.fill(dist, -1);
+        int[] nbrs = this.nbrs;
+        IntQueue queue = this.queue;
+        queue.clear();
+        dist[source] = 0;
+        queue.add(source);
+        int reached = 1;
+        this.peakFrontier = 1;
+        while (!queue.isEmpty()) {
+            if (queue.size() > this.peakFrontier) {
+                this.peakFrontier = queue.size();
+            }
+            int current = queue.remove();
+            int steps = dist[current] + 1;
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (dist[nbr] < 0) {
+                    dist[nbr] = steps;
+                    queue.add(nbr);
+                    reached++;
+                }
+            }
+        }
+        this.expanded = reached;
+        return reached;
+    }
+
+    /**
+     * Runs a bidirectional search that expands one whole level at a time
+     * from whichever of the start and finish has the smaller frontier, and
+     * stops when the two searches touch. Every cell reached from the other
+     * side at that point is exactly as far from it as its frontier, so the
+     * first touch gives a shortest path. The backward half of the path is
+     * then spliced into the predecessors, so pathTo and distanceTo work on
+     * the finish just like after a regular search.
+     *
+     * @param start cell to search from
+     * @param finish cell to search to
+     * @return true if finish was reached
+     */
+    public boolean searchBidirectional(int start, int finish) {
+        if (this.predBack == null) {
+            this.predBack = new int[this.pred.length];
+            this.stampBack = new int[this.stamp.length];
+        }
+        int mark = nextEpoch();
+        this.source = start;
+        this.expanded = 0;
+        this.peakFrontier = 1;
+        this.stamp[start] = mark;
+        this.pred[start] = NONE;
+        if (start == finish) {
+            return true;
+        }
+        this.stampBack[finish] = mark;
+        this.predBack[finish] = NONE;
+        this.queue.clear();
+        this.queueBack.clear();
+        this.queue.add(start);
+        this.queueBack.add(finish);
+
+        while (!this.queue.isEmpty() && !this.queueBack.isEmpty()) {
+            this.peakFrontier = Math.max(this.peakFrontier, this.queue.size() + this.queueBack.size());
+            long meet;
+            if (this.queue.size() <= this.queueBack.size()) {
+                meet = expandLevel(this.queue, this.stamp, this.pred, this.stampBack, mark);
+                if (meet >= 0) {
+                    splice((int) (meet >>> 32), (int) meet, mark);
+                    return true;
+                }
+            } else {
+                meet = expandLevel(this.queueBack, this.stampBack, this.predBack, this.stamp, mark);
+                if (meet >= 0) {
+                    splice((int) meet, (int) (meet >>> 32), mark);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Expands every cell currently in the frontier of one half of a
+     * bidirectional search.
+     *
+     * @param frontier queue of the half being expanded
+     * @param mine visited marks of the half being expanded
+     * @param myPred predecessors of the half being expanded
+     * @param theirs visited marks of the other half
+     * @param mark query number of the search
+     * @return the expanded cell in the high 32 bits and the neighbor the
+     *          other half already reached in the low 32 bits, or -1 if the
+     *          halves did not touch
+     */
+    private long expandLevel(IntQueue frontier, int[] mine, int[] myPred, int[] theirs, int mark) {
+        int[] nbrs = this.nbrs;
+        for (int left = frontier.size(); left > 0; left--) {
+            int current = frontier.remove();
+            this.expanded++;
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (theirs[nbr] == mark) {
+                    return ((long) current << 32) | nbr;
+                }
+                if (mine[nbr] != mark) {
+                    mine[nbr] = mark;
+                    myPred[nbr] = current;
+                    frontier.add(nbr);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Points the forward predecessors along the backward half of the path,
+     * from the meeting point all the way to the finish
+     *
+     * @param forwardCell cell on the meeting edge reached from the start
+     * @param backwardCell cell on the meeting edge reached from the finish
+     * @param mark query number of the search
+     */
+    private void splice(int forwardCell, int backwardCell, int mark) {
+        int prev = forwardCell;
+        for (int at = backwardCell; at != NONE; at = this.predBack[at]) {
+            this.pred[at] = prev;
+            this.stamp[at] = mark;
+            prev = at;
+        }
+    }
+
+    /**
+     * Looks up the length of the shortest path to one of the targets of
+     * the last search, which must have been a searchAll or a searchNearest
+     *
+     * @param cell target to measure to
+     * @return number of moves on the shortest path, or -1 if the cell was
+     *          not a target of the last search or was not reached
+     */
+    public int targetDistance(int cell) {
+        if (this.targetStamp == null || this.targetStamp[cell] != this.epoch || !reached(cell)) {
+            return -1;
+        }
+        return this.targetDepth[cell];
+    }
+
+    /**
+     * @return true if the last search reached the cell
+     */
+    public boolean reached(int cell) {
+        return this.stamp[cell] == this.epoch && this.epoch != 0;
+    }
+
+    /**
+     * @rit.pre this.reached( cell )
+     * @return the cell the last search reached this cell from, or NONE for
+     *          the start cell
+     */
+    public int predecessor(int cell) {
+        return this.pred[cell];
+    }
+
+    /**
+     * @return the cell the last search started from, for searchNearest the
+     *          source the path to the target it found starts at
+     */
+    public int getSource() {
+        return this.source;
+    }
+
+    /**
+     * @return number of cells the last search expanded
+     */
+    public int getExpanded() {
+        return this.expanded;
+    }
+
+    /**
+     * @return largest number of cells waiting to be expanded at once during
+     *          the last search, counting both halves of a bidirectional one
+     */
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    /**
+     * @return the grid this engine searches
+     */
+    public GridGraph getGrid() {
+        return this.grid;
+    }
+
+    /**
+     * Counts the steps from the start of the last search to a cell
+     *
+     * @param cell cell to measure to
+     * @return number of moves on the shortest path, or -1 if not reached
+     */
+    public int distanceTo(int cell) {
+        if (!reached(cell)) {
+            return -1;
+        }
+        int steps = 0;
+        for (int at = cell; this.pred[at] != NONE; at = this.pred[at]) {
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Writes the cells on the path from the start of the last search to a
+     * cell into an array, start first, without creating any objects.
+     *
+     * @param cell cell the path ends at
+     * @param out array to write into, grown and returned if it is too small
+     * @return the array the path was written into, check the length of the
+     *          path with distanceTo
+     */
+    public int[] pathCells(int cell, int[] out) {
+        int steps = distanceTo(cell);
+        if (steps < 0) {
+            return out;
+        }
+        if (out.length <= steps) {
+            out = new int[Math.max(steps + 1, out.length * 2)];
+        }
+        int at = cell;
+        for (int i = steps; i >= 0; i--) {
+            out[i] = at;
+            at = this.pred[at];
+        }
+        return out;
+    }
+
+    /**
+     * Builds the path from the start of the last search to a cell.
+     * The path is filled in from the back, so no element is ever shifted.
+     *
+     * @param cell cell the path ends at
+     * @return the coordinates from start to cell, empty if it was not reached
+     */
+    public List<Coordinates> pathTo(int cell) {
+        int steps = distanceTo(cell);
+        if (steps < 0) {
+            return new ArrayList<>();
+        }
+        Coordinates[] path = new Coordinates[steps + 1];
+        int at = cell;
+        for (int i = steps; i >= 0; i--) {
+            path[i] = new Coordinates(grid.rowOf(at), grid.colOf(at));
+            at = this.pred[at];
+        }
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Moves on to the next query number, clearing the stamps on the rare
+     * occasion the counter wraps around
+     *
+     * @return the query number to stamp cells with
+     */
+    private int nextEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            Arrays.fill(this.stamp, 0);
+            if (this.stampBack != null) {
+                Arrays.fill(this.stampBack, 0);
+            }
+            if (this.targetStamp != null) {
+                Arrays.fill(this.targetStamp, 0);
+            }
+            this.epoch = 1;
+        }
+        return this.epoch;
+    }
+}
@@ -0,0 +1,63 @@
+package mazepathfinder;
+
+import java.util.List;
+
+/**
+ * PathFinder that runs Breadth First Search, either from the start only
+ * or from both ends at once.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class BfsPathFinder implements PathFinder {
+
+    //holds the hedgemaze instance
+    private final HedgeMaze hedgeMaze;
+    //engine that does the searching
+    private final BfsEngine engine;
+    //forward or bidirectional
+    private final BreadthFirstSearch.Mode mode;
+
+    /**
+     * Constructor for a BFS path finder with its own engine
+     *
+     * @param hedgeMaze maze to search
+     * @param mode how each query is searched
+     */
+    public BfsPathFinder(HedgeMaze hedgeMaze, BreadthFirstSearch.Mode mode) {
+        this(hedgeMaze, new BfsEngine(hedgeMaze.getGrid()), mode);
+    }
+
+    /**
+     * Constructor for a BFS path finder that shares an engine
+     *
+     * @param hedgeMaze maze to search
+     * @param engine engine built for the grid of the maze
+     * @param mode how each query is searched
+     */
+    public BfsPathFinder(HedgeMaze hedgeMaze, BfsEngine engine, BreadthFirstSearch.Mode mode) {
+        this.hedgeMaze = hedgeMaze;
+        this.engine = engine;
+        this.mode = mode;
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        return (List<Coordinates>) new BreadthFirstSearch(hedgeMaze, engine, start, finish).findPath(mode);
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return engine.getExpanded();
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return engine.getPeakFrontier();
+    }
+
+    @Override
+    public String getName() {
+        return mode.name().toLowerCase();
+    }
+}
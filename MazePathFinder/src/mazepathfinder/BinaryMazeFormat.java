@@ -0,0 +1,182 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes the binary maze format. A binary maze file is a 16
+ * byte header followed by the wall bits exactly as GridGraph packs them:
+ *
+ *   bytes 0-3   magic "HMZB"
+ *   bytes 4-7   format version
+ *   bytes 8-11  number of rows
+ *   bytes 12-15 number of columns
+ *   then        one little endian long for every 32 cells, 2 bits a cell
+ *               (bit 2i is the east wall of cell i, bit 2i+1 its south wall,
+ *               set when the wall is open)
+ *
+ * Because the body has the same layout as the grid, reading a maze is a
+ * memory map and one bulk copy with no parsing.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public final class BinaryMazeFormat {
+
+    /** First four bytes of every binary maze file */
+    public static final int MAGIC = ('H' << 24) | ('M' << 16) | ('Z' << 8) | 'B';
+
+    /** Version written into new files */
+    public static final int VERSION = 1;
+
+    /** Size of the header in bytes, keeps the body 8 byte aligned */
+    public static final int HEADER_BYTES = 16;
+
+    /** Size of the buffer used when writing the body */
+    private static final int WRITE_BUFFER = 1 << 20;
+
+    private BinaryMazeFormat() {
+    }
+
+    /**
+     * Checks the first bytes of a file for the binary magic number
+     *
+     * @param fileName file to check
+     * @return true if the file is a binary maze, false if it is anything else
+     * @throws IOException if the file can't be read
+     */
+    public static boolean isBinary(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until four bytes or the end of the file
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Reads a binary maze file
+     *
+     * @param fileName location of the binary maze
+     * @return the grid of the maze
+     * @throws MazeFormatException if the header or the size of the file is wrong
+     * @throws IOException if the file can't be read for any other reason
+     */
+    public static GridGraph read(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw error(fileName, 0, "file is shorter than the header");
+            }
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buf.order(ByteOrder.BIG_ENDIAN);
+            if (buf.getInt(0) != MAGIC) {
+                throw error(fileName, 0, "not a binary maze file");
+            }
+            int version = buf.getInt(4);
+            if (version != VERSION) {
+                throw error(fileName, 4, "unsupported version " + version);
+            }
+            int rows = buf.getInt(8);
+            int cols = buf.getInt(12);
+            if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw error(fileName, 8, "unsupported maze size " + rows + "x" + cols);
+            }
+            int count = GridGraph.wordsFor(rows, cols);
+            if (size != HEADER_BYTES + 8L * count) {
+                throw error(fileName, HEADER_BYTES, "expected " + (HEADER_BYTES + 8L * count)
+                        + " bytes for a " + rows + "x" + cols + " maze but the file has " + size);
+            }
+            long[] words = new long[count];
+            LongBuffer body = buf.position(HEADER_BYTES).slice()
+                    .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            body.get(words);
+            GridGraph grid = new GridGraph(rows, cols, words);
+            checkBorders(fileName, grid);
+            return grid;
+        }
+    }
+
+    /**
+     * Writes a grid as a binary maze file, replacing the file if it exists
+     *
+     * @param grid grid to write
+     * @param fileName location of the binary maze
+     * @throws IOException if the file can't be written
+     */
+    public static void write(GridGraph grid, String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(WRITE_BUFFER);
+            buf.putInt(MAGIC).putInt(VERSION).putInt(grid.numRows()).putInt(grid.numCols());
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            for (long word : grid.words()) {
+                if (!buf.hasRemaining()) {
+                    drain(channel, buf);
+                }
+                buf.putLong(word);
+            }
+            drain(channel, buf);
+        }
+    }
+
+    /**
+     * Converts a maze file in either format to the binary format
+     *
+     * @param from maze file to read
+     * @param to binary maze file to write
+     * @throws IOException if either file can't be used
+     */
+    public static void convert(String from, String to) throws IOException {
+        write(new HedgeMaze(from).getGrid(), to);
+    }
+
+    /**
+     * Writes out everything in the buffer and empties it
+     */
+    private static void drain(FileChannel channel, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+        buf.clear();
+    }
+
+    /**
+     * Makes sure no passage leads off of the grid and no bits are set past
+     * the last cell, since the search engines trust the bits completely
+     */
+    private static void checkBorders(String fileName, GridGraph grid) throws MazeFormatException {
+        int rows = grid.numRows();
+        int cols = grid.numCols();
+        for (int r = 0; r < rows; r++) {
+            if (grid.hasEast(grid.index(r, cols - 1))) {
+                throw error(fileName, HEADER_BYTES, "cell (" + r + "," + (cols - 1) + ") opens east off of the maze");
+            }
+        }
+        for (int c = 0; c < cols; c++) {
+            if (grid.hasSouth(grid.index(rows - 1, c))) {
+                throw error(fileName, HEADER_BYTES, "cell (" + (rows - 1) + "," + c + ") opens south off of the maze");
+            }
+        }
+        long[] words = grid.words();
+        int used = grid.size() & 31;
+        if (used != 0 && words[words.length - 1] >>> (used << 1) != 0) {
+            throw error(fileName, HEADER_BYTES, "bits are set past the last cell");
+        }
+    }
+
+    /**
+     * @return an exception pointing at a byte offset of the file
+     */
+    private static MazeFormatException error(String fileName, long offset, String message) {
+        return new MazeFormatException(fileName, "byte " + offset + ": " + message);
+    }
+}
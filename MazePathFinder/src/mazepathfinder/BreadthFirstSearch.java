@@ -0,0 +1,214 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * Class that runs the Breadth First Search.
+ * BFS is a pathfinding algorithm for unweighted graphs
+ * that is guaranteed to find the shortest path
+ * as long as one exists.
+ *
+ * @date 07/11/2022
+ * @author Andrew Photinakis
+ */
+public class BreadthFirstSearch {
+
+    /**
+     * The ways a point to point query can be searched. Both give a path of
+     * the same, shortest, length.
+     */
+    public enum Mode {
+        /** Expands outward from the start until the finish is reached */
+        FORWARD,
+        /** Expands from the start and the finish until the two searches meet */
+        BIDIRECTIONAL
+    }
+
+    //holds the hedgemaze instance
+    private HedgeMaze hedgeMaze;
+    //holds the start coordinate for the algo
+    private Coordinates start;
+    //holds the end coordinate for the algo
+    private Coordinates finish;
+    //engine that does the searching, can be shared between queries
+    private BfsEngine engine;
+
+    /**
+     * Constructor for the Breadth First Search class
+     *
+     * @param hedgeMaze maze instance passed in
+     * @param start start coordinate passed in
+     * @param finish finish coordinate passed in
+     * @param map treemap passed in, no longer used since the search runs on
+     *            the grid of the maze
+     */
+    public BreadthFirstSearch(HedgeMaze hedgeMaze, Coordinates start, Coordinates finish, TreeMap<Coordinates, Node>
+                                                                                                        map){
+        this(hedgeMaze, start, finish);
+    }
+
+    /**
+     * Constructor for the Breadth First Search class that makes its own engine
+     *
+     * @param hedgeMaze maze instance passed in
+     * @param start start coordinate passed in
+     * @param finish finish coordinate passed in
+     */
+    public BreadthFirstSearch(HedgeMaze hedgeMaze, Coordinates start, Coordinates finish){
+        this(hedgeMaze, new BfsEngine(hedgeMaze.getGrid()), start, finish);
+    }
+
+    /**
+     * Constructor for the Breadth First Search class that reuses an engine,
+     * so repeated queries on the same maze do not allocate search space
+     *
+     * @param hedgeMaze maze instance passed in
+     * @param engine engine built for the grid of the maze
+     * @param start start coordinate passed in
+     * @param finish finish coordinate passed in
+     */
+    public BreadthFirstSearch(HedgeMaze hedgeMaze, BfsEngine engine, Coordinates start, Coordinates finish){
+        this.hedgeMaze = hedgeMaze;
+        this.engine = engine;
+        this.start = start;
+        this.finish = finish;
+    }
+
+    /**
+     * Part 1 of breadth first search. Converts the start and finish into
+     * cell indices and lets the engine search the grid until either the
+     * finish cell is found, or every reachable cell has been visited.
+     *
+     * {@inheritDoc}
+     * @return a call to the contructPath method which walks the
+     *          predecessors back from the finish to the start
+     */
+    public Collection<Coordinates> findPath(){
+        return findPath(Mode.FORWARD);
+    }
+
+    /**
+     * Same as findPath() but lets the caller pick how the search runs.
+     *
+     * @param mode FORWARD for a search from the start only, BIDIRECTIONAL
+     *             for a search from both ends
+     * @return the path from the start to the finish, empty if there is none
+     */
+    public Collection<Coordinates> findPath(Mode mode){
+        int startCell = hedgeMaze.toCell(this.start);
+        int finishCell = hedgeMaze.toCell(this.finish);
+        if (mode == Mode.BIDIRECTIONAL) {
+            engine.searchBidirectional(startCell, finishCell);
+        } else {
+            engine.search(startCell, finishCell);
+        }
+        return constructPath(finishCell);
+    }
+
+    /**
+     * Same as findPath(mode) but gives the path as runs of moves like
+     * "R12 D3 L7" packed into ints, see PathEncoding, so a long path is a
+     * handful of ints instead of an object per cell.
+     *
+     * @param mode FORWARD for a search from the start only, BIDIRECTIONAL
+     *             for a search from both ends
+     * @return the runs of the path from the start to the finish, null if
+     *          there is none
+     */
+    public int[] findRuns(Mode mode){
+        int startCell = hedgeMaze.toCell(this.start);
+        int finishCell = hedgeMaze.toCell(this.finish);
+        if (mode == Mode.BIDIRECTIONAL) {
+            engine.searchBidirectional(startCell, finishCell);
+        } else {
+            engine.search(startCell, finishCell);
+        }
+        return PathEncoding.runsTo(engine, finishCell);
+    }
+
+    /**
+     * Finds the path and writes it as runs of moves like "R12 D3 L7" while
+     * it is walked, so even a path of millions of moves is never held in
+     * memory. The search runs from the finish back to the start, which
+     * leaves predecessors that lead from the start to the finish.
+     *
+     * @param out where the runs are written, not flushed or closed
+     * @return number of moves on the path, or -1 if there is none
+     * @throws IOException if writing fails
+     */
+    public long writeRuns(OutputStream out) throws IOException {
+        int startCell = hedgeMaze.toCell(this.start);
+        int finishCell = hedgeMaze.toCell(this.finish);
+        engine.search(finishCell, startCell);
+        return PathEncoding.writeToSource(engine, startCell, out);
+    }
+
+    /**
+     * Finds the closest pair between a group of starts and a group of
+     * finishes, like the nearest of several pots of gold or the nearest
+     * of several people to one pot. Every start is put in the frontier
+     * at once, so a single search finds the pair however many of each
+     * there are.
+     *
+     * @param hedgeMaze maze to search
+     * @param engine engine built for the grid of the maze
+     * @param starts coordinates the path may start at
+     * @param finishes coordinates the path may end at
+     * @return the path between the closest start and finish, starting at
+     *          the start, or empty if no finish can be reached from any start
+     */
+    public static List<Coordinates> findNearest(HedgeMaze hedgeMaze, BfsEngine engine,
+                                                Collection<Coordinates> starts, Collection<Coordinates> finishes){
+        int[] startCells = new int[starts.size()];
+        int i = 0;
+        for (Coordinates start : starts) {
+            startCells[i++] = hedgeMaze.toCell(start);
+        }
+        int[] finishCells = new int[finishes.size()];
+        i = 0;
+        for (Coordinates finish : finishes) {
+            finishCells[i++] = hedgeMaze.toCell(finish);
+        }
+        int found = engine.searchNearest(startCells, 0, startCells.length, finishCells, 0, finishCells.length);
+        if (found == BfsEngine.NONE) {
+            return new ArrayList<>();
+        }
+        return engine.pathTo(found);
+    }
+
+    /**
+     * Part 2 of breadth first search. Constructs a path from the start
+     * coordinate to the finish coordinate using the predecessors the
+     * engine recorded.
+     *
+     * @param finishCell cell index of the finish coordinate
+     * @return a List of coordinates path from the start to end coordinates
+     */
+    private List<Coordinates> constructPath(int finishCell) {
+        return engine.pathTo(finishCell);
+    }
+
+    /**
+     * @return Getter method that returns the maze
+     */
+    public HedgeMaze getHedgeMaze(){
+        return this.hedgeMaze;
+    }
+
+    /**
+     * @return Getter method that returns the starting coordinate
+     */
+    public Coordinates getStart(){
+        return this.start;
+    }
+
+    /**
+     * @return Getter method that returns the finish coordinate
+     */
+    public Coordinates getFinish(){
+        return this.finish;
+    }
+
+}
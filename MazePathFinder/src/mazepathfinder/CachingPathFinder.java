@@ -0,0 +1,156 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PathFinder that answers repeated queries from a PathCache and only
+ * hands new ones to the path finder behind it. Start cells that keep
+ * missing the cache get their whole distance field built once, after
+ * which every query from (or, since the maze is undirected, to) that cell
+ * is a walk downhill through the field. The cache is registered with the
+ * maze so wall changes keep it correct.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class CachingPathFinder implements PathFinder {
+
+    /** Maze being searched */
+    private final HedgeMaze hedgeMaze;
+
+    /** Path finder used on a miss */
+    private final PathFinder delegate;
+
+    /** Cache of results */
+    private final PathCache cache;
+
+    /** Engine that builds distance fields, created on first use */
+    private BfsEngine engine;
+
+    /** Nodes expanded by the last query, 0 if it was answered from the cache */
+    private int expanded;
+
+    /** Largest frontier of the last query, 0 if it was answered from the cache */
+    private int peakFrontier;
+
+    /**
+     * Constructor for the caching path finder
+     *
+     * @param hedgeMaze maze to search
+     * @param delegate path finder used on a miss
+     * @param cache cache of results, can be shared between path finders
+     */
+    public CachingPathFinder(HedgeMaze hedgeMaze, PathFinder delegate, PathCache cache) {
+        this.hedgeMaze = hedgeMaze;
+        this.delegate = delegate;
+        this.cache = cache;
+        hedgeMaze.addWallListener(cache);
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        int s = hedgeMaze.toCell(start);
+        int t = hedgeMaze.toCell(finish);
+        this.expanded = 0;
+        this.peakFrontier = 0;
+        int[] cells = cache.getPath(hedgeMaze, s, t);
+        if (cells == null) {
+            cells = fromTree(s, t);
+            if (cells == null) {
+                if (cache.countStartMiss(hedgeMaze, s)) {
+                    if (engine == null) {
+                        engine = new BfsEngine(hedgeMaze.getGrid());
+                    }
+                    int[] dist = new int[hedgeMaze.getGrid().size()];
+                    engine.fillDistances(s, dist);
+                    this.expanded = engine.getExpanded();
+                    this.peakFrontier = engine.getPeakFrontier();
+                    cache.putTree(hedgeMaze, s, dist);
+                    cells = walkTree(dist, t, false);
+                } else {
+                    List<Coordinates> path = delegate.findPath(start, finish);
+                    this.expanded = delegate.getNodesExpanded();
+                    this.peakFrontier = delegate.getPeakFrontier();
+                    cells = new int[path.size()];
+                    for (int i = 0; i < cells.length; i++) {
+                        cells[i] = hedgeMaze.toCell(path.get(i));
+                    }
+                }
+            }
+            cache.putPath(hedgeMaze, s, t, cells);
+        }
+        List<Coordinates> path = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            path.add(hedgeMaze.toCoordinates(cell));
+        }
+        return path;
+    }
+
+    /**
+     * Answers a query from the cached distance field of either end
+     *
+     * @return the cells of the path, or null if neither end has a field
+     */
+    private int[] fromTree(int s, int t) {
+        int[] dist = cache.getTree(hedgeMaze, s);
+        if (dist != null) {
+            return walkTree(dist, t, false);
+        }
+        dist = cache.getTree(hedgeMaze, t);
+        return dist == null ? null : walkTree(dist, s, true);
+    }
+
+    /**
+     * Walks downhill through a distance field from a cell to the source
+     *
+     * @param dist distance from the source to every cell
+     * @param end cell to start walking from
+     * @param reversed true to list the cells from end to the source, false
+     *                 to list them from the source to end
+     * @return the cells of the path, empty if end can't reach the source
+     */
+    private int[] walkTree(int[] dist, int end, boolean reversed) {
+        if (dist[end] < 0) {
+            return new int[0];
+        }
+        GridGraph grid = hedgeMaze.getGrid();
+        int[] nbrs = new int[4];
+        int steps = dist[end];
+        int[] cells = new int[steps + 1];
+        int at = end;
+        for (int i = 0; i <= steps; i++) {
+            cells[reversed ? i : steps - i] = at;
+            int count = grid.neighbors(at, nbrs);
+            for (int k = 0; k < count; k++) {
+                if (dist[nbrs[k]] == dist[at] - 1) {
+                    at = nbrs[k];
+                    break;
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * @return the cache in front of the path finder
+     */
+    public PathCache getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.expanded;
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
@@ -0,0 +1,299 @@
+package mazepathfinder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Cost of stepping into each cell of a maze, for terrain that is slower
+ * to cross than the rest. A path costs the sum of the cells it enters, so
+ * the start cell is free. Costs are whole numbers from 1 to MAX_COST kept
+ * in one byte per cell, small enough for DijkstraEngine to use a bucket
+ * queue instead of a heap.
+ *
+ * A costs file is text: a line holding the number of rows and columns,
+ * then one line per row with the cost of every cell of the row separated
+ * by whitespace. The costs of a maze are kept next to it, in the maze
+ * file name followed by ".costs".
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class CellCosts {
+
+    /** Largest cost of a cell */
+    public static final int MAX_COST = 255;
+
+    /** Added to a maze file name to name its costs file */
+    public static final String EXTENSION = ".costs";
+
+    /** Number of rows */
+    private final int rows;
+
+    /** Number of columns */
+    private final int cols;
+
+    /** Cost of every cell, unsigned */
+    private final byte[] costs;
+
+    /** Largest cost of any cell */
+    private final int maxCost;
+
+    /**
+     * Creates costs where every cell costs the same
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param cost cost of every cell
+     * @throws IllegalArgumentException if the cost is not from 1 to MAX_COST
+     */
+    public CellCosts(int rows, int cols, int cost) {
+        this(rows, cols, filled(rows, cols, checked(cost)));
+    }
+
+    /**
+     * Creates costs around an array that has already been filled in
+     */
+    private CellCosts(int rows, int cols, byte[] costs) {
+        this.rows = rows;
+        this.cols = cols;
+        this.costs = costs;
+        int max = 1;
+        for (byte cost : costs) {
+            max = Math.max(max, cost & 0xFF);
+        }
+        this.maxCost = max;
+    }
+
+    /**
+     * Creates random costs, patches of cheap and expensive terrain rather
+     * than noise, for trying out weighted searches
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param maxCost most a cell may cost
+     * @param seed seed of the random numbers
+     * @return the costs
+     * @throws IllegalArgumentException if maxCost is not from 1 to MAX_COST
+     */
+    public static CellCosts random(int rows, int cols, int maxCost, long seed) {
+        checked(maxCost);
+        SplittableRandom random = new SplittableRandom(seed);
+        byte[] costs = new byte[rows * cols];
+        int patch = 8;
+        int patchCols = (cols + patch - 1) / patch;
+        int[] base = new int[((rows + patch - 1) / patch) * patchCols];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = 1 + random.nextInt(maxCost);
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int cost = base[r / patch * patchCols + c / patch] + random.nextInt(3) - 1;
+                costs[r * cols + c] = (byte) Math.max(1, Math.min(maxCost, cost));
+            }
+        }
+        return new CellCosts(rows, cols, costs);
+    }
+
+    /**
+     * Reads a costs file
+     *
+     * @param fileName location of the costs file
+     * @param rows number of rows the maze has
+     * @param cols number of columns the maze has
+     * @return the costs
+     * @throws MazeFormatException if the file is not valid or doesn't fit the maze
+     * @throws IOException if the file can't be read
+     */
+    public static CellCosts read(String fileName, int rows, int cols) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(fileName)), 1 << 16)) {
+            Tokens tokens = new Tokens(fileName, in);
+            int fileRows = tokens.next();
+            int fileCols = tokens.next();
+            if (fileRows != rows || fileCols != cols) {
+                throw tokens.error("costs are for a " + fileRows + "x" + fileCols + " maze but the maze is "
+                        + rows + "x" + cols);
+            }
+            byte[] costs = new byte[rows * cols];
+            for (int cell = 0; cell < costs.length; cell++) {
+                int cost = tokens.next();
+                if (cost < 1 || cost > MAX_COST) {
+                    throw tokens.error("cost " + cost + " is not from 1 to " + MAX_COST);
+                }
+                costs[cell] = (byte) cost;
+            }
+            if (tokens.hasNext()) {
+                throw tokens.error("more costs than cells");
+            }
+            return new CellCosts(rows, cols, costs);
+        }
+    }
+
+    /**
+     * Reads the costs kept next to a maze file, or makes every cell cost
+     * 1 if there are none
+     *
+     * @param mazeFile file the maze was loaded from, null for none
+     * @param grid grid of the maze
+     * @return the costs
+     * @throws MazeFormatException if the costs file is not valid or doesn't fit the maze
+     * @throws IOException if the costs file can't be read
+     */
+    public static CellCosts forMaze(String mazeFile, MazeGrid grid) throws IOException {
+        if (mazeFile != null && Files.exists(Path.of(mazeFile + EXTENSION))) {
+            return read(mazeFile + EXTENSION, grid.numRows(), grid.numCols());
+        }
+        return new CellCosts(grid.numRows(), grid.numCols(), 1);
+    }
+
+    /**
+     * Writes the costs as a costs file, replacing the file if it exists
+     *
+     * @param fileName location of the costs file
+     * @throws IOException if the file can't be written
+     */
+    public void write(String fileName) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(fileName)), 1 << 16)) {
+            out.write((this.rows + " " + this.cols + "\n").getBytes(StandardCharsets.US_ASCII));
+            StringBuilder line = new StringBuilder();
+            for (int r = 0; r < this.rows; r++) {
+                line.setLength(0);
+                for (int c = 0; c < this.cols; c++) {
+                    if (c > 0) {
+                        line.append(' ');
+                    }
+                    line.append(this.costs[r * this.cols + c] & 0xFF);
+                }
+                line.append('\n');
+                out.write(line.toString().getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    /**
+     * @return cost of stepping into the cell
+     */
+    public int cost(int cell) {
+        return this.costs[cell] & 0xFF;
+    }
+
+    /**
+     * @return largest cost of any cell
+     */
+    public int getMaxCost() {
+        return this.maxCost;
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int numRows() {
+        return this.rows;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int numCols() {
+        return this.cols;
+    }
+
+    /**
+     * @return the cost, if it is allowed
+     */
+    private static int checked(int cost) {
+        if (cost < 1 || cost > MAX_COST) {
+            throw new IllegalArgumentException("cost " + cost + " is not from 1 to " + MAX_COST);
+        }
+        return cost;
+    }
+
+    /**
+     * @return an array of the given size filled with one cost
+     */
+    private static byte[] filled(int rows, int cols, int cost) {
+        byte[] costs = new byte[rows * cols];
+        Arrays.fill(costs, (byte) cost);
+        return costs;
+    }
+
+    /**
+     * Reads the whitespace separated whole numbers of a costs file,
+     * keeping track of the line for error messages
+     */
+    private static final class Tokens {
+
+        private final String fileName;
+        private final InputStream in;
+        private long line = 1;
+        private long column;
+        private long tokenColumn = 1;
+        private int ahead = -2;
+
+        Tokens(String fileName, InputStream in) {
+            this.fileName = fileName;
+            this.in = in;
+        }
+
+        /**
+         * @return true if there is anything but whitespace left
+         */
+        boolean hasNext() throws IOException {
+            skipSpace();
+            return this.ahead >= 0;
+        }
+
+        /**
+         * @return the next number
+         * @throws MazeFormatException if the file ends or has something
+         *          that isn't a number
+         */
+        int next() throws IOException {
+            skipSpace();
+            if (this.ahead < 0) {
+                throw error("file ends early");
+            }
+            long value = 0;
+            int digits = 0;
+            while (this.ahead >= '0' && this.ahead <= '9') {
+                value = Math.min(value * 10 + (this.ahead - '0'), Integer.MAX_VALUE);
+                digits++;
+                read();
+            }
+            if (digits == 0 || (this.ahead >= 0 && !Character.isWhitespace(this.ahead))) {
+                throw error("expected a whole number");
+            }
+            return (int) value;
+        }
+
+        MazeFormatException error(String message) {
+            return new MazeFormatException(this.fileName, this.line, this.tokenColumn, message);
+        }
+
+        private void skipSpace() throws IOException {
+            if (this.ahead == -2) {
+                read();
+            }
+            while (this.ahead >= 0 && Character.isWhitespace(this.ahead)) {
+                if (this.ahead == '\n') {
+                    this.line++;
+                    this.column = 0;
+                }
+                read();
+            }
+            this.tokenColumn = this.column;
+        }
+
+        private void read() throws IOException {
+            this.ahead = this.in.read();
+            this.column++;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package mazepathfinder;
+
+import java.util.Arrays;
+
+/**
+ * Labels every cell of a maze with the connected component it belongs
+ * to, so whether two cells can reach each other is a single comparison
+ * instead of a search. Components are numbered from 0 in the order of
+ * their first cell in row major order. The labels are a snapshot of the
+ * walls at the time they were computed.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class ComponentLabels {
+
+    /** Maze the labels belong to */
+    private final HedgeMaze hedgeMaze;
+
+    /** Component of every cell in row major order */
+    private final int[] labels;
+
+    /** Number of cells in every component */
+    private final int[] sizes;
+
+    /**
+     * Labels the components of a maze with one flood fill per component
+     *
+     * @param hedgeMaze maze to label
+     */
+    public ComponentLabels(HedgeMaze hedgeMaze) {
+        this.hedgeMaze = hedgeMaze;
+        GridGraph grid = hedgeMaze.getGrid();
+        this.labels = new int[grid.size()];
+        Arrays.fill(this.labels, -1);
+        int[] sizes = new int[16];
+        int count = 0;
+        IntQueue queue = new IntQueue();
+        int[] nbrs = new int[4];
+        for (int first = 0; first < this.labels.length; first++) {
+            if (this.labels[first] >= 0) {
+                continue;
+            }
+            int label = count++;
+            int size = 1;
+            this.labels[first] = label;
+            queue.add(first);
+            while (!queue.isEmpty()) {
+                int cell = queue.remove();
+                int n = grid.neighbors(cell, nbrs);
+                for (int k = 0; k < n; k++) {
+                    if (this.labels[nbrs[k]] < 0) {
+                        this.labels[nbrs[k]] = label;
+                        size++;
+                        queue.add(nbrs[k]);
+                    }
+                }
+            }
+            if (label == sizes.length) {
+                sizes = Arrays.copyOf(sizes, label * 2);
+            }
+            sizes[label] = size;
+        }
+        this.sizes = Arrays.copyOf(sizes, count);
+    }
+
+    /**
+     * @return the component a cell belongs to
+     */
+    public int label(Coordinates cord) {
+        return this.labels[hedgeMaze.toCell(cord)];
+    }
+
+    /**
+     * @return true if there is a path between the two cells
+     */
+    public boolean connected(Coordinates cell1, Coordinates cell2) {
+        return label(cell1) == label(cell2);
+    }
+
+    /**
+     * @return number of components
+     */
+    public int getCount() {
+        return this.sizes.length;
+    }
+
+    /**
+     * @return number of cells in a component
+     */
+    public int getSize(int label) {
+        return this.sizes[label];
+    }
+
+    /**
+     * The component of every cell in row major order. The array is the
+     * labeling itself, not a copy, so it must not be changed.
+     *
+     * @return component labels
+     */
+    public int[] getLabels() {
+        return this.labels;
+    }
+}
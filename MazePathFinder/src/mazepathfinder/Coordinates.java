@@ -1,3 +1,5 @@
+package mazepathfinder;
+
 /**
  * Record that is used to hold the coordinates from the maze of each spot in it.
  *
@@ -0,0 +1,278 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dijkstra's algorithm over the cell indices of a GridGraph whose cells
+ * have CellCosts. Costs are small whole numbers, so instead of a heap the
+ * open list is a ring of buckets, one per cost from the cell being
+ * expanded up to the most a step can cost (Dial's algorithm). Every cell
+ * waiting in the ring is at most MAX_COST further than the cell being
+ * expanded, so bucket d modulo the ring size only ever holds cells of
+ * cost d, and pushing and popping are both constant time.
+ *
+ * A cell is pushed again when a cheaper way to it is found and the stale
+ * entry is skipped when it comes off, the same lazy deletion
+ * AStarPathFinder does with its heap. Like BfsEngine the arrays are reused
+ * for every query and stamped with a query number instead of cleared.
+ *
+ * An engine is not thread safe, each thread needs its own.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class DijkstraEngine {
+
+    /** Predecessor value stored for the cell a search starts from */
+    public static final int NONE = -1;
+
+    /** The grid being searched */
+    private final GridGraph grid;
+
+    /** Cost of stepping into each cell */
+    private final CellCosts costs;
+
+    /** Cheapest cost found so far to every cell reached by the last search */
+    private final int[] dist;
+
+    /** Predecessor of every cell on its cheapest path so far */
+    private final int[] pred;
+
+    /** Query number that last reached each cell */
+    private final int[] stamp;
+
+    /** Query number that last expanded each cell */
+    private final int[] settled;
+
+    /** Query number of the current search */
+    private int epoch;
+
+    /** Ring of buckets, bucket d modulo its length holds the cells of cost d */
+    private final IntQueue[] buckets;
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /** Number of cells expanded by the last search */
+    private int expanded;
+
+    /** Largest number of entries waiting in the buckets during the last search */
+    private int peakFrontier;
+
+    /** Cell the last search started from */
+    private int source = NONE;
+
+    /**
+     * Creates an engine sized for the grid passed in
+     *
+     * @param grid grid to search
+     * @param costs cost of stepping into each cell of the grid
+     * @throws IllegalArgumentException if the costs are for a grid of a
+     *          different size
+     */
+    public DijkstraEngine(GridGraph grid, CellCosts costs) {
+        if (costs.numRows() != grid.numRows() || costs.numCols() != grid.numCols()) {
+            throw new IllegalArgumentException("costs are for a " + costs.numRows() + "x" + costs.numCols()
+                    + " maze but the maze is " + grid.numRows() + "x" + grid.numCols());
+        }
+        this.grid = grid;
+        this.costs = costs;
+        this.dist = new int[grid.size()];
+        this.pred = new int[grid.size()];
+        this.stamp = new int[grid.size()];
+        this.settled = new int[grid.size()];
+        this.buckets = new IntQueue[costs.getMaxCost() + 1];
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new IntQueue();
+        }
+    }
+
+    /**
+     * Runs a search from start until finish is expanded or every reachable
+     * cell has been. Passing NONE as the finish builds the whole cheapest
+     * path tree of start.
+     *
+     * @param start cell to search from
+     * @param finish cell to stop at, or NONE to expand everything reachable
+     * @return true if finish was reached
+     */
+    public boolean search(int start, int finish) {
+        int mark = nextEpoch();
+        int[] dist = this.dist;
+        int[] pred = this.pred;
+        int[] stamp = this.stamp;
+        int[] settled = this.settled;
+        int[] nbrs = this.nbrs;
+        IntQueue[] buckets = this.buckets;
+        for (IntQueue bucket : buckets) {
+            bucket.clear();
+        }
+
+        this.source = start;
+        this.expanded = 0;
+        this.peakFrontier = 1;
+        stamp[start] = mark;
+        dist[start] = 0;
+        pred[start] = NONE;
+        buckets[0].add(start);
+        int waiting = 1;
+        for (int cost = 0; waiting > 0; cost++) {
+            IntQueue bucket = buckets[cost % buckets.length];
+            while (!bucket.isEmpty()) {
+                int current = bucket.remove();
+                waiting--;
+                if (settled[current] == mark || dist[current] != cost) {
+                    continue;
+                }
+                settled[current] = mark;
+                this.expanded++;
+                if (current == finish) {
+                    return true;
+                }
+                int count = grid.neighbors(current, nbrs);
+                for (int i = 0; i < count; i++) {
+                    int nbr = nbrs[i];
+                    int next = cost + costs.cost(nbr);
+                    if (stamp[nbr] != mark || next < dist[nbr]) {
+                        stamp[nbr] = mark;
+                        dist[nbr] = next;
+                        pred[nbr] = current;
+                        buckets[next % buckets.length].add(nbr);
+                        waiting++;
+                    }
+                }
+                if (waiting > this.peakFrontier) {
+                    this.peakFrontier = waiting;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the last search found its cheapest path to the cell
+     */
+    public boolean reached(int cell) {
+        return this.settled[cell] == this.epoch && this.epoch != 0;
+    }
+
+    /**
+     * @return the cell the last search started from
+     */
+    public int getSource() {
+        return this.source;
+    }
+
+    /**
+     * @return number of cells the last search expanded
+     */
+    public int getExpanded() {
+        return this.expanded;
+    }
+
+    /**
+     * @return largest number of entries waiting in the buckets at once
+     *          during the last search, stale ones included
+     */
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    /**
+     * @return the costs this engine searches with
+     */
+    public CellCosts getCosts() {
+        return this.costs;
+    }
+
+    /**
+     * @param cell cell to measure to
+     * @return cost of the cheapest path from the start of the last search
+     *          to the cell, or -1 if it was not reached
+     */
+    public int costTo(int cell) {
+        return reached(cell) ? this.dist[cell] : -1;
+    }
+
+    /**
+     * Counts the steps on the cheapest path from the start of the last
+     * search to a cell
+     *
+     * @param cell cell to measure to
+     * @return number of moves on the path, or -1 if not reached
+     */
+    public int distanceTo(int cell) {
+        if (!reached(cell)) {
+            return -1;
+        }
+        int steps = 0;
+        for (int at = cell; this.pred[at] != NONE; at = this.pred[at]) {
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Writes the cells on the cheapest path from the start of the last
+     * search to a cell into an array, start first, without creating any
+     * objects.
+     *
+     * @param cell cell the path ends at
+     * @param out array to write into, grown and returned if it is too small
+     * @return the array the path was written into, check the length of the
+     *          path with distanceTo
+     */
+    public int[] pathCells(int cell, int[] out) {
+        int steps = distanceTo(cell);
+        if (steps < 0) {
+            return out;
+        }
+        if (out.length <= steps) {
+            out = new int[Math.max(steps + 1, out.length * 2)];
+        }
+        int at = cell;
+        for (int i = steps; i >= 0; i--) {
+            out[i] = at;
+            at = this.pred[at];
+        }
+        return out;
+    }
+
+    /**
+     * Builds the cheapest path from the start of the last search to a cell
+     *
+     * @param cell cell the path ends at
+     * @return the coordinates from start to cell, empty if it was not reached
+     */
+    public List<Coordinates> pathTo(int cell) {
+        int steps = distanceTo(cell);
+        if (steps < 0) {
+            return new ArrayList<>();
+        }
+        Coordinates[] path = new Coordinates[steps + 1];
+        int at = cell;
+        for (int i = steps; i >= 0; i--) {
+            path[i] = new Coordinates(grid.rowOf(at), grid.colOf(at));
+            at = this.pred[at];
+        }
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Moves on to the next query number, clearing the stamps on the rare
+     * occasion the counter wraps around
+     *
+     * @return the query number to stamp cells with
+     */
+    private int nextEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            Arrays.fill(this.stamp, 0);
+            Arrays.fill(this.settled, 0);
+            this.epoch = 1;
+        }
+        return this.epoch;
+    }
+}
@@ -0,0 +1,64 @@
+package mazepathfinder;
+
+import java.util.List;
+
+/**
+ * PathFinder that finds the cheapest path through a maze whose cells
+ * have CellCosts, using a DijkstraEngine. The path it returns is the one
+ * with the smallest total cost, which is only the one with the fewest
+ * moves when every cell costs the same.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class DijkstraPathFinder implements PathFinder {
+
+    /** Maze being searched */
+    private final HedgeMaze hedgeMaze;
+
+    /** Engine that does the searching */
+    private final DijkstraEngine engine;
+
+    /** Cell the last query ended at */
+    private int lastFinish = DijkstraEngine.NONE;
+
+    /**
+     * Constructor for the Dijkstra path finder
+     *
+     * @param hedgeMaze maze to search
+     * @param costs cost of stepping into each cell of the maze
+     */
+    public DijkstraPathFinder(HedgeMaze hedgeMaze, CellCosts costs) {
+        this.hedgeMaze = hedgeMaze;
+        this.engine = new DijkstraEngine(hedgeMaze.getGrid(), costs);
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        lastFinish = hedgeMaze.toCell(finish);
+        engine.search(hedgeMaze.toCell(start), lastFinish);
+        return engine.pathTo(lastFinish);
+    }
+
+    /**
+     * @return cost of the path found by the last query, or -1 if there was none
+     */
+    public int getPathCost() {
+        return lastFinish == DijkstraEngine.NONE ? -1 : engine.costTo(lastFinish);
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return engine.getExpanded();
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return engine.getPeakFrontier();
+    }
+
+    @Override
+    public String getName() {
+        return "dijkstra";
+    }
+}
@@ -0,0 +1,201 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Number of moves from one source cell to every cell of a maze, measured
+ * by a single full Breadth First Search. The distances are kept in one
+ * int array in row major order (cell index row * columns + col), with
+ * UNREACHABLE for cells walled off from the source, and can be exported
+ * in bulk as text or as raw little endian ints for heatmaps.
+ *
+ * A field is a snapshot of the walls it was measured on. Register it with
+ * HedgeMaze.addWallListener to have it repaired whenever a wall changes.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class DistanceField implements WallListener {
+
+    /** Distance of every cell the source can't reach */
+    public static final int UNREACHABLE = -1;
+
+    /** Maze the distances were measured on */
+    private final HedgeMaze hedgeMaze;
+
+    /** Cell the distances are measured from */
+    private final int source;
+
+    /** Distance to every cell in row major order */
+    private final int[] dist;
+
+    /**
+     * Measures the distances from a source with a new search engine
+     *
+     * @param hedgeMaze maze to measure
+     * @param source cell to measure from
+     */
+    public DistanceField(HedgeMaze hedgeMaze, Coordinates source) {
+        this(hedgeMaze, new BfsEngine(hedgeMaze.getGrid()), source);
+    }
+
+    /**
+     * Measures the distances from a source with an engine that is reused
+     * across many fields
+     *
+     * @param hedgeMaze maze to measure
+     * @param engine engine built for the grid of the maze
+     * @param source cell to measure from
+     */
+    public DistanceField(HedgeMaze hedgeMaze, BfsEngine engine, Coordinates source) {
+        this.hedgeMaze = hedgeMaze;
+        this.source = hedgeMaze.toCell(source);
+        this.dist = new int[hedgeMaze.getGrid().size()];
+        engine.fillDistances(this.source, this.dist);
+    }
+
+    /**
+     * @rit.pre hedgeMaze.contains( cord.row(), cord.col() )
+     * @return number of moves from the source to a cell, or UNREACHABLE
+     */
+    public int distance(Coordinates cord) {
+        return this.dist[hedgeMaze.toCell(cord)];
+    }
+
+    /**
+     * @return number of moves from the source to a cell index, or UNREACHABLE
+     */
+    public int distance(int cell) {
+        return this.dist[cell];
+    }
+
+    /**
+     * @return true if there is a path from the source to the cell
+     */
+    public boolean isReachable(Coordinates cord) {
+        return distance(cord) != UNREACHABLE;
+    }
+
+    /**
+     * The distance of every cell in row major order. The array is the
+     * field itself, not a copy, so it must not be changed.
+     *
+     * @return distances, UNREACHABLE for cells the source can't reach
+     */
+    public int[] getDistances() {
+        return this.dist;
+    }
+
+    /**
+     * @return the cell the distances are measured from
+     */
+    public Coordinates getSource() {
+        return hedgeMaze.toCoordinates(this.source);
+    }
+
+    /**
+     * @return number of cells the source can reach, including itself
+     */
+    public int getReachableCount() {
+        int count = 0;
+        for (int d : this.dist) {
+            if (d != UNREACHABLE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the largest distance to any reachable cell
+     */
+    public int getMaxDistance() {
+        int max = 0;
+        for (int d : this.dist) {
+            max = Math.max(max, d);
+        }
+        return max;
+    }
+
+    /**
+     * Walks downhill from a cell to build a shortest path from the source
+     * to it, without searching again
+     *
+     * @param cord cell the path ends at
+     * @return the path from the source, empty if the cell can't be reached
+     */
+    public List<Coordinates> pathTo(Coordinates cord) {
+        int cell = hedgeMaze.toCell(cord);
+        if (this.dist[cell] == UNREACHABLE) {
+            return new ArrayList<>();
+        }
+        GridGraph grid = hedgeMaze.getGrid();
+        int[] nbrs = new int[4];
+        Coordinates[] path = new Coordinates[this.dist[cell] + 1];
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = hedgeMaze.toCoordinates(cell);
+            int count = grid.neighbors(cell, nbrs);
+            for (int k = 0; k < count; k++) {
+                if (this.dist[nbrs[k]] == this.dist[cell] - 1) {
+                    cell = nbrs[k];
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(List.of(path));
+    }
+
+    /**
+     * Writes the distances as text, one line per row of the maze with the
+     * distances of its cells separated by spaces
+     *
+     * @param out where the text goes, should be buffered
+     * @throws IOException if writing fails
+     */
+    public void writeText(Writer out) throws IOException {
+        int cols = hedgeMaze.numCols();
+        for (int cell = 0; cell < this.dist.length; cell++) {
+            out.write(Integer.toString(this.dist[cell]));
+            out.write(cell % cols == cols - 1 ? '\n' : ' ');
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the distances as raw little endian ints in row major order,
+     * four bytes a cell with no header
+     *
+     * @param out where the bytes go
+     * @throws IOException if writing fails
+     */
+    public void writeBinary(OutputStream out) throws IOException {
+        byte[] buf = new byte[1 << 16];
+        int at = 0;
+        for (int d : this.dist) {
+            if (at == buf.length) {
+                out.write(buf, 0, at);
+                at = 0;
+            }
+            buf[at++] = (byte) d;
+            buf[at++] = (byte) (d >>> 8);
+            buf[at++] = (byte) (d >>> 16);
+            buf[at++] = (byte) (d >>> 24);
+        }
+        out.write(buf, 0, at);
+        out.flush();
+    }
+
+    /**
+     * Repairs the distances after a wall of the maze changed
+     */
+    @Override
+    public void wallChanged(HedgeMaze hMaze, int cell1, int cell2, boolean open) {
+        if (hMaze == this.hedgeMaze) {
+            DistanceRepair.repair(hMaze.getGrid(), this.dist, cell1, cell2, open);
+        }
+    }
+}
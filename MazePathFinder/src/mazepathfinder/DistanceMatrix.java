@@ -0,0 +1,220 @@
+package mazepathfinder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shortest path lengths between every pair of a set of points in one
+ * maze. Instead of a search per pair there is one search per point, which
+ * stops as soon as every later point has been reached; the maze is
+ * undirected, so the distance from a later point back to an earlier one
+ * is the same number and is never searched for. The searches are spread
+ * over a ParallelQueryExecutor and the result is kept as one dense array.
+ *
+ * Only the lengths are kept. The path between two of the points is found
+ * again when it is asked for, which is a single bidirectional search.
+ *
+ * A points file has one "r c" per line; blank lines and lines starting
+ * with # are skipped.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class DistanceMatrix {
+
+    /** Maze the distances were measured in */
+    private final HedgeMaze hMaze;
+
+    /** Cell of every point, in the order the points were given */
+    private final int[] cells;
+
+    /** Distance from point i to point j at i * size + j, -1 where there is no path */
+    private final int[] distances;
+
+    /** Time the searches took */
+    private final long nanos;
+
+    /** Engine that finds paths on demand, created on first use */
+    private BfsEngine engine;
+
+    /**
+     * Measures the distances between every pair of points
+     *
+     * @param hMaze maze to measure in
+     * @param points points to measure between, duplicates are fine
+     * @param threads number of threads to search with
+     * @throws IllegalArgumentException if a point is not inside of the maze
+     */
+    public DistanceMatrix(HedgeMaze hMaze, List<Coordinates> points, int threads) {
+        this.hMaze = hMaze;
+        int size = points.size();
+        this.cells = new int[size];
+        for (int i = 0; i < size; i++) {
+            Coordinates point = points.get(i);
+            if (!hMaze.contains(point.row(), point.col())) {
+                throw new IllegalArgumentException(point + " is not a valid cell location.");
+            }
+            this.cells[i] = hMaze.toCell(point);
+        }
+        this.distances = new int[size * size];
+        long begin = System.nanoTime();
+        if (threads <= 1) {
+            BfsEngine engine = new BfsEngine(hMaze.getGrid());
+            for (int i = 0; i < size; i++) {
+                fillRow(engine, i);
+            }
+        } else {
+            try (ParallelQueryExecutor executor = new ParallelQueryExecutor(hMaze, threads)) {
+                executor.run(size, this::fillRow);
+            }
+        }
+        this.nanos = System.nanoTime() - begin;
+    }
+
+    /**
+     * Reads points, one "r c" per line, until the end of the input.
+     * Lines that are not two integers inside of the maze are reported and
+     * skipped.
+     *
+     * @param in source of point lines
+     * @param hMaze maze the points are in
+     * @return the points in the order they were read
+     * @throws IOException if the input can't be read
+     */
+    public static List<Coordinates> readPoints(BufferedReader in, HedgeMaze hMaze) throws IOException {
+        List<Coordinates> points = new ArrayList<>();
+        int[] nums = new int[2];
+        String line;
+        long lineNum = 0;
+        while ((line = in.readLine()) != null) {
+            lineNum++;
+            int found = BatchQueryRunner.parseInts(line, nums);
+            if (found == 0) {
+                continue;
+            }
+            if (found != 2) {
+                System.err.println("line " + lineNum + ": expected r c but found \"" + line + "\"");
+                continue;
+            }
+            if (!hMaze.contains(nums[0], nums[1])) {
+                System.err.println("line " + lineNum + ": \"" + line + "\" is not a valid cell location.");
+                continue;
+            }
+            points.add(new Coordinates(nums[0], nums[1]));
+        }
+        return points;
+    }
+
+    /**
+     * Searches from one point to every later point and fills in both
+     * halves of the matrix for those pairs
+     *
+     * @param engine engine to search with
+     * @param i which point to search from
+     */
+    private void fillRow(BfsEngine engine, int i) {
+        int size = this.cells.length;
+        this.distances[i * size + i] = 0;
+        if (i + 1 == size) {
+            return;
+        }
+        engine.searchAll(this.cells[i], this.cells, i + 1, size);
+        for (int j = i + 1; j < size; j++) {
+            int steps = engine.targetDistance(this.cells[j]);
+            this.distances[i * size + j] = steps;
+            this.distances[j * size + i] = steps;
+        }
+    }
+
+    /**
+     * @return number of points
+     */
+    public int size() {
+        return this.cells.length;
+    }
+
+    /**
+     * @return the point at an index
+     */
+    public Coordinates getPoint(int i) {
+        return new Coordinates(this.hMaze.getGrid().rowOf(this.cells[i]), this.hMaze.getGrid().colOf(this.cells[i]));
+    }
+
+    /**
+     * @param i index of one point
+     * @param j index of the other point
+     * @return number of moves on a shortest path between the two points, or
+     *          -1 if there is none
+     */
+    public int get(int i, int j) {
+        return this.distances[i * this.cells.length + j];
+    }
+
+    /**
+     * @return every distance, point i to point j at [i][j], -1 where there
+     *          is no path
+     */
+    public int[][] toArray() {
+        int size = this.cells.length;
+        int[][] rows = new int[size][];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new int[size];
+            System.arraycopy(this.distances, i * size, rows[i], 0, size);
+        }
+        return rows;
+    }
+
+    /**
+     * Finds a shortest path between two of the points. Not thread safe,
+     * the search reuses one engine.
+     *
+     * @param i index of the point the path starts at
+     * @param j index of the point the path ends at
+     * @return the coordinates of the path, empty if there is none
+     */
+    public List<Coordinates> path(int i, int j) {
+        if (this.distances[i * this.cells.length + j] < 0) {
+            return new ArrayList<>();
+        }
+        if (this.engine == null) {
+            this.engine = new BfsEngine(this.hMaze.getGrid());
+        }
+        this.engine.searchBidirectional(this.cells[i], this.cells[j]);
+        return this.engine.pathTo(this.cells[j]);
+    }
+
+    /**
+     * @return time the searches took in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Writes the matrix as text: the number of points, then one line per
+     * point with its distance to every point
+     *
+     * @param out where the matrix is written, buffer it for big matrices
+     * @throws IOException if writing fails
+     */
+    public void writeText(Writer out) throws IOException {
+        int size = this.cells.length;
+        StringBuilder line = new StringBuilder();
+        out.write(size + System.lineSeparator());
+        for (int i = 0; i < size; i++) {
+            line.setLength(0);
+            for (int j = 0; j < size; j++) {
+                if (j > 0) {
+                    line.append(' ');
+                }
+                line.append(this.distances[i * size + j]);
+            }
+            line.append(System.lineSeparator());
+            out.write(line.toString());
+        }
+        out.flush();
+    }
+}
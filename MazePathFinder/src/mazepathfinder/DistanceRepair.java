@@ -0,0 +1,171 @@
+package mazepathfinder;
+
+/**
+ * Repairs an array of Breadth First Search distances from one source
+ * after a wall changes, touching only the cells whose distance changed
+ * instead of searching the whole maze again. Distances are -1 for cells
+ * the source can't reach, like BfsEngine.fillDistances writes them.
+ *
+ * Opening a wall can only shorten distances, so the shorter distance is
+ * pushed out from the wall with a Breadth First Search that stops where
+ * nothing improves. Closing a wall can only lengthen them, and works like
+ * LPA* does with unit costs: a cell keeps its distance as long as some
+ * neighbor is one move closer to the source, so first the cells that
+ * lost every such neighbor are found, layer by layer out from the wall,
+ * and then just those cells are settled again in order of distance from
+ * the cells around them.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public final class DistanceRepair {
+
+    /** Marks a cell whose distance is being recomputed */
+    private static final int UNSETTLED = Integer.MAX_VALUE;
+
+    private DistanceRepair() {
+    }
+
+    /**
+     * Repairs distances after a wall changed
+     *
+     * @param grid grid the distances were measured on, already changed
+     * @param dist distance from the source to every cell, repaired in place
+     * @param cell1 cell on one side of the wall
+     * @param cell2 cell on the other side of the wall
+     * @param open true if the wall was opened, false if it was closed
+     * @return number of cells whose distance changed
+     */
+    public static int repair(GridGraph grid, int[] dist, int cell1, int cell2, boolean open) {
+        return open ? wallOpened(grid, dist, cell1, cell2) : wallClosed(grid, dist, cell1, cell2);
+    }
+
+    /**
+     * Pushes shorter distances out through a newly opened wall
+     */
+    private static int wallOpened(GridGraph grid, int[] dist, int a, int b) {
+        if (dist[a] < 0 && dist[b] < 0) {
+            return 0;
+        }
+        if (dist[a] < 0 || (dist[b] >= 0 && dist[b] < dist[a])) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        if (dist[b] >= 0 && dist[b] <= dist[a] + 1) {
+            return 0;
+        }
+        dist[b] = dist[a] + 1;
+        int changed = 1;
+        IntQueue queue = new IntQueue(64);
+        queue.add(b);
+        int[] nbrs = new int[4];
+        while (!queue.isEmpty()) {
+            int cell = queue.remove();
+            int next = dist[cell] + 1;
+            int count = grid.neighbors(cell, nbrs);
+            for (int k = 0; k < count; k++) {
+                int nbr = nbrs[k];
+                if (dist[nbr] < 0 || dist[nbr] > next) {
+                    dist[nbr] = next;
+                    changed++;
+                    queue.add(nbr);
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Lengthens the distances that went through a newly closed wall
+     */
+    private static int wallClosed(GridGraph grid, int[] dist, int a, int b) {
+        if (dist[a] < 0 || dist[a] == dist[b]) {
+            return 0;
+        }
+        if (dist[a] > dist[b]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        // b was one move further than a; find every cell that lost all of
+        // the neighbors it was reached through, nearest layer first
+        int[] nbrs = new int[4];
+        IntQueue candidates = new IntQueue(64);
+        IntQueue lost = new IntQueue(64);
+        candidates.add(b);
+        while (!candidates.isEmpty()) {
+            int cell = candidates.remove();
+            int d = dist[cell];
+            if (d == UNSETTLED || hasCloserNeighbor(grid, dist, cell, nbrs)) {
+                continue;
+            }
+            dist[cell] = UNSETTLED;
+            lost.add(cell);
+            int count = grid.neighbors(cell, nbrs);
+            for (int k = 0; k < count; k++) {
+                if (dist[nbrs[k]] == d + 1) {
+                    candidates.add(nbrs[k]);
+                }
+            }
+        }
+        int changed = lost.size();
+
+        // settle the lost cells again from the distances around them
+        IntMinHeap heap = new IntMinHeap();
+        for (int i = 0; i < changed; i++) {
+            int cell = lost.remove();
+            lost.add(cell);
+            int best = UNSETTLED;
+            int count = grid.neighbors(cell, nbrs);
+            for (int k = 0; k < count; k++) {
+                int d = dist[nbrs[k]];
+                if (d >= 0 && d != UNSETTLED && d + 1 < best) {
+                    best = d + 1;
+                }
+            }
+            if (best != UNSETTLED) {
+                heap.push(best, cell);
+            }
+        }
+        while (!heap.isEmpty()) {
+            int d = (int) heap.peekKey();
+            int cell = heap.pop();
+            if (dist[cell] != UNSETTLED) {
+                continue;
+            }
+            dist[cell] = d;
+            int count = grid.neighbors(cell, nbrs);
+            for (int k = 0; k < count; k++) {
+                if (dist[nbrs[k]] == UNSETTLED) {
+                    heap.push(d + 1, nbrs[k]);
+                }
+            }
+        }
+        while (!lost.isEmpty()) {
+            int cell = lost.remove();
+            if (dist[cell] == UNSETTLED) {
+                dist[cell] = -1;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return true if the cell is the source or has a settled neighbor one
+     *          move closer to the source
+     */
+    private static boolean hasCloserNeighbor(GridGraph grid, int[] dist, int cell, int[] nbrs) {
+        int d = dist[cell];
+        if (d == 0) {
+            return true;
+        }
+        int count = grid.neighbors(cell, nbrs);
+        for (int k = 0; k < count; k++) {
+            if (dist[nbrs[k]] == d - 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,252 @@
+package mazepathfinder;
+
+/**
+ * Compact representation of a maze laid on a 2-D grid of cells.
+ * Every cell is identified by an int index (row * columns + col) and
+ * only stores two bits: whether the passage to its east neighbor is open
+ * and whether the passage to its south neighbor is open. West and north
+ * passages are read from the neighboring cell, so each wall is stored once.
+ * The bits are packed 32 cells to a long, which keeps a 10k x 10k maze
+ * at roughly 25MB. Mazes too big for the heap can be kept in a tiled
+ * file instead and read through TiledGrid.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class GridGraph implements MazeGrid {
+
+    /** Bit set in a cell when the passage to the east neighbor is open */
+    public static final int EAST = 1;
+
+    /** Bit set in a cell when the passage to the south neighbor is open */
+    public static final int SOUTH = 2;
+
+    /** Number of cells packed into one long */
+    private static final int CELLS_PER_WORD = 32;
+
+    /** Number of rows in the grid */
+    private final int rows;
+
+    /** Number of columns in the grid */
+    private final int cols;
+
+    /** Two bits per cell, east bit first, packed into longs */
+    private final long[] words;
+
+    /**
+     * Creates a grid where every wall is closed.
+     *
+     * @param rows number of rows in the maze
+     * @param cols number of columns in the maze
+     * @throws IllegalArgumentException if the size is negative or has more
+     *          cells than an int index can address
+     */
+    public GridGraph(int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported maze size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.words = new long[wordsFor(rows, cols)];
+    }
+
+    /**
+     * Creates a grid around packed wall bits that were read from a file.
+     *
+     * @param rows number of rows in the maze
+     * @param cols number of columns in the maze
+     * @param words packed bits, laid out like the ones words() returns
+     */
+    GridGraph(int rows, int cols, long[] words) {
+        this.rows = rows;
+        this.cols = cols;
+        this.words = words;
+    }
+
+    /**
+     * @return number of longs needed to pack the bits of a maze this size
+     */
+    static int wordsFor(int rows, int cols) {
+        return (int) (((long) rows * cols + CELLS_PER_WORD - 1) / CELLS_PER_WORD);
+    }
+
+    /**
+     * The packed wall bits, 32 cells to a long with cell i in bits 2i and
+     * 2i+1 (mod 64) of long i/32. Shared, not copied, so only code that
+     * reads or writes whole mazes should use it.
+     *
+     * @return the array the bits are stored in
+     */
+    long[] words() {
+        return this.words;
+    }
+
+    /**
+     * @return integer representing the number of rows in the grid
+     */
+    public int numRows() {
+        return this.rows;
+    }
+
+    /**
+     * @return integer representing the number of columns in the grid
+     */
+    public int numCols() {
+        return this.cols;
+    }
+
+    /**
+     * @return total number of cells in the grid
+     */
+    public int size() {
+        return this.rows * this.cols;
+    }
+
+    /**
+     * Checks if the row and column lie inside of the grid
+     *
+     * @return true if the cell exists, false otherwise
+     */
+    public boolean contains(int r, int c) {
+        return r >= 0 && r < this.rows && c >= 0 && c < this.cols;
+    }
+
+    /**
+     * @rit.pre this.contains( r, c )
+     * @return the cell index of the row and column
+     */
+    public int index(int r, int c) {
+        return r * this.cols + c;
+    }
+
+    /**
+     * @return the row of the cell index
+     */
+    public int rowOf(int cell) {
+        return cell / this.cols;
+    }
+
+    /**
+     * @return the column of the cell index
+     */
+    public int colOf(int cell) {
+        return cell % this.cols;
+    }
+
+    /**
+     * @return the wall bits (EAST and SOUTH) stored for the cell
+     */
+    public int bits(int cell) {
+        return (int) (this.words[cell >>> 5] >>> ((cell & 31) << 1)) & 3;
+    }
+
+    /**
+     * @return true if the passage to the east neighbor is open
+     */
+    public boolean hasEast(int cell) {
+        return (bits(cell) & EAST) != 0;
+    }
+
+    /**
+     * @return true if the passage to the south neighbor is open
+     */
+    public boolean hasSouth(int cell) {
+        return (bits(cell) & SOUTH) != 0;
+    }
+
+    /**
+     * @return true if the passage to the west neighbor is open
+     */
+    public boolean hasWest(int cell) {
+        return cell % this.cols != 0 && hasEast(cell - 1);
+    }
+
+    /**
+     * @return true if the passage to the north neighbor is open
+     */
+    public boolean hasNorth(int cell) {
+        return cell >= this.cols && hasSouth(cell - this.cols);
+    }
+
+    /**
+     * Checks if two cells are adjacent and the wall between them is open.
+     *
+     * @rit.pre both cells are inside of the grid
+     * @return true if you can walk directly from one cell to the other
+     */
+    public boolean connected(int a, int b) {
+        if (a > b) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        if (b == a + this.cols) {
+            return hasSouth(a);
+        }
+        return b == a + 1 && b % this.cols != 0 && hasEast(a);
+    }
+
+    /**
+     * Writes the open neighbors of a cell into the array passed in, in
+     * north, west, east, south order, which matches the order the neighbors
+     * were added to the old adjacency lists.
+     *
+     * @param cell the cell to look around
+     * @param out array with room for at least 4 entries
+     * @return the number of neighbors that were written
+     */
+    public int neighbors(int cell, int[] out) {
+        int n = 0;
+        if (hasNorth(cell)) {
+            out[n++] = cell - this.cols;
+        }
+        if (hasWest(cell)) {
+            out[n++] = cell - 1;
+        }
+        int here = bits(cell);
+        if ((here & EAST) != 0) {
+            out[n++] = cell + 1;
+        }
+        if ((here & SOUTH) != 0) {
+            out[n++] = cell + this.cols;
+        }
+        return n;
+    }
+
+    /**
+     * @return number of open passages leaving the cell
+     */
+    public int degree(int cell) {
+        int here = bits(cell);
+        return (here & EAST) + (here >>> 1)
+                + (hasWest(cell) ? 1 : 0) + (hasNorth(cell) ? 1 : 0);
+    }
+
+    /**
+     * Opens the passage between a cell and its east neighbor
+     */
+    void openEast(int cell) {
+        this.words[cell >>> 5] |= (long) EAST << ((cell & 31) << 1);
+    }
+
+    /**
+     * Opens the passage between a cell and its south neighbor
+     */
+    void openSouth(int cell) {
+        this.words[cell >>> 5] |= (long) SOUTH << ((cell & 31) << 1);
+    }
+
+    /**
+     * Closes the passage between a cell and its east neighbor
+     */
+    void closeEast(int cell) {
+        this.words[cell >>> 5] &= ~((long) EAST << ((cell & 31) << 1));
+    }
+
+    /**
+     * Closes the passage between a cell and its south neighbor
+     */
+    void closeSouth(int cell) {
+        this.words[cell >>> 5] &= ~((long) SOUTH << ((cell & 31) << 1));
+    }
+}
@@ -0,0 +1,299 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A coordinate-based graph of nodes to represent a maze laid on a 2-D
+ * grid of cells
+ *
+ * @date 07/11/2022
+ * @author Andrew Photinakis
+ */
+public class HedgeMaze {
+
+    /** Input file symbol for no barrier between adjacent horizontal cells */
+    public final static String NO_WALL = ".";
+
+    /** Packed grid holding the open and closed walls of every cell */
+    private final GridGraph grid;
+
+    /** Treemap view of the maze, only built when getMap() is called */
+    private TreeMap<Coordinates, Node> map;
+
+    /** Integer declaration to later hold the number of rows in the maze */
+    private int rows;
+
+    /** Integer declaration to later hold the number of columns in the maze */
+    private int columns;
+
+    /** String declaration to hold the name of the Node */
+    private String name;
+
+    /** Told about every wall that is opened or closed */
+    private final List<WallListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a graph by reading a file. Details can be found in the lab
+     * writeup. Text files are read by MazeLoader in a single pass,
+     * binary files (see BinaryMazeFormat) are mapped and copied in bulk
+     * and tiled files (see TiledMazeFormat) are read a tile at a time.
+     * @param fileName location of maze specification
+     * @throws MazeFormatException if the file does not follow the maze format
+     * @throws IOException if the file can't be read for any reason
+     */
+    public HedgeMaze( String fileName ) throws IOException {
+        this( BinaryMazeFormat.isBinary( fileName ) ? BinaryMazeFormat.read( fileName )
+                : TiledMazeFormat.isTiled( fileName ) ? TiledMazeFormat.read( fileName )
+                : MazeLoader.load( fileName ) );
+    }
+
+    /**
+     * Create a maze from a grid that has already been built
+     * @param grid the walls of the maze
+     */
+    public HedgeMaze( GridGraph grid ) {
+        this.grid = grid;
+        this.rows = grid.numRows();
+        this.columns = grid.numCols();
+    }
+
+    /**
+     *  Takes in 4 ints representing 2 coordinates to be compared to each
+     *  other. The coordinates are connected if they are next to each other
+     *  and the wall between them is open in the grid.
+     *
+     * {@inheritDoc}
+     * @rit.pre this.contains( r1, c1 ) and this.contains( r2, c2 )
+     * @return true if both coordinates are neighbors of each other, false otherwise
+     */
+    public boolean connected( int r1, int c1, int r2, int c2 ) {
+        return grid.connected(grid.index(r1, c1), grid.index(r2, c2));
+    }
+
+    public boolean connects( Coordinates cell1, Coordinates cell2 ) {
+        return connected( cell1.row(), cell1.col(), cell2.row(), cell2.col() );
+    }
+
+    /**
+     * Opens the wall between two neighboring cells and tells every
+     * WallListener about it. Walls must not change while another thread is
+     * searching the maze.
+     *
+     * @param cell1 cell on one side of the wall
+     * @param cell2 cell on the other side of the wall
+     * @return true if the wall was closed before
+     * @throws IllegalArgumentException if the cells are not neighbors
+     */
+    public boolean openWall( Coordinates cell1, Coordinates cell2 ) {
+        return changeWall( cell1, cell2, true );
+    }
+
+    /**
+     * Closes the wall between two neighboring cells and tells every
+     * WallListener about it. Walls must not change while another thread is
+     * searching the maze.
+     *
+     * @param cell1 cell on one side of the wall
+     * @param cell2 cell on the other side of the wall
+     * @return true if the wall was open before
+     * @throws IllegalArgumentException if the cells are not neighbors
+     */
+    public boolean closeWall( Coordinates cell1, Coordinates cell2 ) {
+        return changeWall( cell1, cell2, false );
+    }
+
+    /**
+     * Registers a listener for wall changes, a listener already registered
+     * is not added again
+     *
+     * @param listener told about every wall change from now on
+     */
+    public void addWallListener( WallListener listener ) {
+        if ( !this.listeners.contains( listener ) ) {
+            this.listeners.add( listener );
+        }
+    }
+
+    /**
+     * @param listener no longer told about wall changes
+     */
+    public void removeWallListener( WallListener listener ) {
+        this.listeners.remove( listener );
+    }
+
+    /**
+     * Opens or closes a wall, then tells the listeners if it changed
+     */
+    private boolean changeWall( Coordinates cell1, Coordinates cell2, boolean open ) {
+        if ( !contains( cell1.row(), cell1.col() ) || !contains( cell2.row(), cell2.col() )
+                || Math.abs( cell1.row() - cell2.row() ) + Math.abs( cell1.col() - cell2.col() ) != 1 ) {
+            throw new IllegalArgumentException( cell1 + " and " + cell2 + " are not neighboring cells" );
+        }
+        int a = toCell( cell1 );
+        int b = toCell( cell2 );
+        if ( grid.connected( a, b ) == open ) {
+            return false;
+        }
+        int first = Math.min( a, b );
+        if ( cell1.row() == cell2.row() ) {
+            if ( open ) {
+                grid.openEast( first );
+            }
+            else {
+                grid.closeEast( first );
+            }
+        }
+        else if ( open ) {
+            grid.openSouth( first );
+        }
+        else {
+            grid.closeSouth( first );
+        }
+        this.map = null;
+        for ( WallListener listener : this.listeners ) {
+            listener.wallChanged( this, a, b, open );
+        }
+        return true;
+    }
+
+    /**
+     * Prints out adjacency list of the graph using natural ordering
+     */
+    public void printAdjacencyList() {
+        System.out.println( "Graph Details:" + System.lineSeparator() );
+        int[] nbrs = new int[4];
+        StringBuilder line = new StringBuilder();
+        for (int cell = 0; cell < grid.size(); cell++) {
+            line.setLength(0);
+            line.append("Node ").append(toCoordinates(cell)).append(": ");
+            int count = grid.neighbors(cell, nbrs);
+            for (int i = 0; i < count; i++) {
+                line.append(toCoordinates(nbrs[i])).append(' ');
+            }
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Checks if the maze contains the coordinate that is passed into it
+     *
+     * @return true is the maze contains the coordinate, false otherwise
+     */
+    public boolean contains( int r, int c ) {
+        return grid.contains(r, c);
+    }
+
+    /**
+     * Converts a cell index of the grid into a coordinate
+     *
+     * @param cell index of the cell in the grid
+     * @return coordinate of the cell
+     */
+    public Coordinates toCoordinates(int cell) {
+        return new Coordinates(grid.rowOf(cell), grid.colOf(cell));
+    }
+
+    /**
+     * Converts a coordinate into the cell index used by the grid
+     *
+     * @rit.pre this.contains( cord.row(), cord.col() )
+     * @param cord coordinate to convert
+     * @return index of the cell in the grid
+     */
+    public int toCell(Coordinates cord) {
+        return grid.index(cord.row(), cord.col());
+    }
+
+    /**
+     * Method takes in a Node and converts it to a coordinate by
+     * getting its name and using string manipulation.
+     *
+     * @param node that is passed in
+     * @return a coordinate representation of the node string name
+     */
+    public Coordinates convertNodeToCoordinate(Node node){
+        String s = node.getName();
+        String n = s.replaceAll("[()]", "");
+        String[] strArr = n.split("\\,");
+        int rows = Integer.parseInt(strArr[0]);
+        int cols = Integer.parseInt(strArr[1]);
+        return new Coordinates(rows, cols);
+    }
+
+    /**
+     * Method that does not take in anything but prints out the maze board.
+     * Purely for user visuals. Drawn by MazeRenderer a line at a time.
+     */
+    public void printLayout() {
+        try {
+            new MazeRenderer( this ).writeAscii( System.out, null );
+        }
+        catch( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Accessor method
+     *
+     * {@inheritDoc}
+     * @return integer representing the number of rows in the maze
+     */
+    public int numRows() {
+        return this.rows;
+    }
+
+    /**
+     * Compatibility view of the maze as a treemap of coordinates to nodes.
+     * The map is built from the grid the first time it is asked for, which
+     * costs far more memory than the grid, so only old callers should use it.
+     *
+     * @return treemap that holds the adjacent neighbors for all coordinates
+     */
+    public TreeMap<Coordinates, Node> getMap(){
+        if (this.map == null) {
+            TreeMap<Coordinates, Node> built = new TreeMap<>();
+            int[] nbrs = new int[4];
+            for (int cell = 0; cell < grid.size(); cell++) {
+                Coordinates cord = toCoordinates(cell);
+                Node node = new Node(cord.toString());
+                int count = grid.neighbors(cell, nbrs);
+                for (int i = 0; i < count; i++) {
+                    node.addNeighbor(new Node(toCoordinates(nbrs[i]).toString()));
+                }
+                built.put(cord, node);
+            }
+            this.map = built;
+        }
+        return this.map;
+    }
+
+    /**
+     * @return the packed grid the maze is stored in
+     */
+    public GridGraph getGrid(){
+        return this.grid;
+    }
+
+    /**
+     * Accessor method
+     *
+     * {@inheritDoc}
+     * @return integer representing the number of columns in the maze
+     */
+    public int numCols() {
+        return this.columns;
+    }
+
+    /**
+     * Overrides the gridgraph getName() and returns the name of the node
+     *
+     * @return String of the node name
+     */
+    public String getName() {
+        return this.name;
+    }
+}
@@ -0,0 +1,518 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PathFinder that searches an abstraction of the maze (HPA*). The maze is
+ * cut into square clusters, and every cell with an open wall across the
+ * edge of its cluster is an entrance. For each cluster the distances
+ * between its entrances, staying inside of the cluster, are worked out
+ * ahead of time. A query first finds its way from the start and to the
+ * finish inside of their own clusters, then runs A* over the entrances
+ * only, hopping across a cluster in one step, and finally fills in the
+ * cells of just the hops that end up on the path.
+ *
+ * Because every crossing is an entrance, every shortest path is made of
+ * hops the abstraction knows about, so the paths found are as short as
+ * the ones Breadth First Search finds. The finder listens for wall
+ * changes and rebuilds only the one or two clusters the wall touches.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class HierarchicalPathFinder implements PathFinder, WallListener {
+
+    /** Side of a cluster in cells when none is given */
+    public static final int DEFAULT_CLUSTER = 16;
+
+    /** Predecessor of the entrances a query starts its abstract search from */
+    private static final int NONE = -1;
+
+    /** Maze being searched */
+    private final HedgeMaze hedgeMaze;
+
+    /** Grid of the maze */
+    private final GridGraph grid;
+
+    /** Side of a cluster in cells */
+    private final int side;
+
+    /** Number of clusters across the maze */
+    private final int clustersAcross;
+
+    /** Room for entrances in every cluster, one per cell around its edge */
+    private final int slots;
+
+    /** Entrance cells of every cluster, in increasing order */
+    private final int[][] entrances;
+
+    /** Distances inside of every cluster between each pair of its
+     *  entrances, row by row, -1 where they don't connect */
+    private final int[][] hops;
+
+    /** Steps to every entrance reached by the abstract search, by slot */
+    private final int[] g;
+
+    /** Entrance each entrance was reached from, by slot */
+    private final int[] pred;
+
+    /** Query number that last reached each slot */
+    private final int[] seen;
+
+    /** Query number that last expanded each slot */
+    private final int[] closed;
+
+    /** Query number of the current abstract search */
+    private int epoch;
+
+    /** Open list of the abstract search */
+    private final IntMinHeap open = new IntMinHeap();
+
+    /** Steps from a cell of the cluster being searched, by position in the cluster */
+    private final int[] localDist;
+
+    /** Position each cell of the cluster was reached from */
+    private final int[] localPred;
+
+    /** Search number that last reached each position of the cluster */
+    private final int[] localSeen;
+
+    /** Search number of the current search inside of a cluster */
+    private int localEpoch;
+
+    /** Frontier of the searches inside of a cluster */
+    private final IntQueue queue = new IntQueue();
+
+    /** First row, first column, rows and columns of the cluster being searched */
+    private int top, left, height, width;
+
+    /** Steps from the start to each entrance of its cluster */
+    private int[] fromStart = new int[0];
+
+    /** Steps from each entrance of the finish's cluster to the finish */
+    private int[] toFinish = new int[0];
+
+    /** Cells of the path being put together */
+    private int[] path = new int[64];
+
+    /** Number of cells in path */
+    private int pathSize;
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /** Entrances and cells expanded by the last query */
+    private int expanded;
+
+    /** Largest open list of the last query */
+    private int peakFrontier;
+
+    /**
+     * Constructor that builds the abstraction with clusters of the
+     * default size
+     *
+     * @param hedgeMaze maze to search
+     */
+    public HierarchicalPathFinder(HedgeMaze hedgeMaze) {
+        this(hedgeMaze, DEFAULT_CLUSTER);
+    }
+
+    /**
+     * Constructor that builds the abstraction and registers for wall
+     * changes
+     *
+     * @param hedgeMaze maze to search
+     * @param side side of a cluster in cells, bigger clusters mean fewer
+     *             entrances to search but more to build
+     * @throws IllegalArgumentException if the side is less than 2
+     */
+    public HierarchicalPathFinder(HedgeMaze hedgeMaze, int side) {
+        if (side < 2) {
+            throw new IllegalArgumentException("cluster side must be at least 2, not " + side);
+        }
+        this.hedgeMaze = hedgeMaze;
+        this.grid = hedgeMaze.getGrid();
+        this.side = side;
+        this.clustersAcross = (grid.numCols() + side - 1) / side;
+        int clusters = this.clustersAcross * ((grid.numRows() + side - 1) / side);
+        this.slots = 4 * side;
+        this.entrances = new int[clusters][];
+        this.hops = new int[clusters][];
+        this.g = new int[clusters * this.slots];
+        this.pred = new int[clusters * this.slots];
+        this.seen = new int[clusters * this.slots];
+        this.closed = new int[clusters * this.slots];
+        this.localDist = new int[side * side];
+        this.localPred = new int[side * side];
+        this.localSeen = new int[side * side];
+        for (int k = 0; k < clusters; k++) {
+            build(k);
+        }
+        hedgeMaze.addWallListener(this);
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        int s = hedgeMaze.toCell(start);
+        int t = hedgeMaze.toCell(finish);
+        int startCluster = clusterOf(s);
+        int finishCluster = clusterOf(t);
+        this.expanded = 0;
+        this.peakFrontier = 1;
+
+        int best = Integer.MAX_VALUE;
+        int bestSlot = NONE;
+        int[] startExits = entrances[startCluster];
+        this.fromStart = distancesFrom(startCluster, s, this.fromStart);
+        if (startCluster == finishCluster && localDistance(t) >= 0) {
+            // the path may still be shorter by leaving the cluster
+            best = localDistance(t);
+        }
+        this.toFinish = distancesFrom(finishCluster, t, this.toFinish);
+
+        int mark = nextEpoch();
+        IntMinHeap open = this.open;
+        open.clear();
+        int finishRow = grid.rowOf(t);
+        int finishCol = grid.colOf(t);
+        for (int i = 0; i < startExits.length; i++) {
+            if (fromStart[i] >= 0) {
+                relax(startCluster * slots + i, startExits[i], fromStart[i], NONE, mark, finishRow, finishCol);
+            }
+        }
+        while (!open.isEmpty()) {
+            if (open.size() > this.peakFrontier) {
+                this.peakFrontier = open.size();
+            }
+            if ((int) (open.peekKey() >>> 32) >= best) {
+                break;
+            }
+            int slot = open.pop();
+            if (closed[slot] == mark) {
+                continue;
+            }
+            closed[slot] = mark;
+            this.expanded++;
+            int cluster = slot / slots;
+            int index = slot - cluster * slots;
+            int cell = entrances[cluster][index];
+            int steps = g[slot];
+            if (cluster == finishCluster && toFinish[index] >= 0 && steps + toFinish[index] < best) {
+                best = steps + toFinish[index];
+                bestSlot = slot;
+            }
+            int[] row = hops[cluster];
+            int count = entrances[cluster].length;
+            for (int j = 0; j < count; j++) {
+                int d = row[index * count + j];
+                if (d > 0) {
+                    relax(cluster * slots + j, entrances[cluster][j], steps + d, slot, mark, finishRow, finishCol);
+                }
+            }
+            count = grid.neighbors(cell, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                int other = clusterOf(nbr);
+                if (other != cluster) {
+                    relax(other * slots + Arrays.binarySearch(entrances[other], nbr), nbr, steps + 1, slot,
+                            mark, finishRow, finishCol);
+                }
+            }
+        }
+        if (best == Integer.MAX_VALUE) {
+            return new ArrayList<>();
+        }
+        this.pathSize = 0;
+        if (bestSlot == NONE) {
+            appendClusterPath(startCluster, s, t);
+        } else {
+            expandPath(s, t, bestSlot);
+        }
+        List<Coordinates> found = new ArrayList<>(this.pathSize);
+        for (int i = 0; i < this.pathSize; i++) {
+            found.add(hedgeMaze.toCoordinates(this.path[i]));
+        }
+        return found;
+    }
+
+    /**
+     * Rebuilds the clusters on both sides of the wall
+     */
+    @Override
+    public void wallChanged(HedgeMaze hMaze, int cell1, int cell2, boolean open) {
+        int cluster1 = clusterOf(cell1);
+        int cluster2 = clusterOf(cell2);
+        build(cluster1);
+        if (cluster2 != cluster1) {
+            build(cluster2);
+        }
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.expanded;
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    @Override
+    public String getName() {
+        return "hpa";
+    }
+
+    /**
+     * @return number of entrances in the whole abstraction
+     */
+    public int getEntranceCount() {
+        int total = 0;
+        for (int[] cells : entrances) {
+            total += cells.length;
+        }
+        return total;
+    }
+
+    /**
+     * Finds the entrances of a cluster and the distances between them
+     *
+     * @param cluster cluster to build
+     */
+    private void build(int cluster) {
+        enter(cluster);
+        int[] found = new int[2 * (this.height + this.width)];
+        int count = 0;
+        for (int r = this.top; r < this.top + this.height; r++) {
+            for (int c = this.left; c < this.left + this.width; c++) {
+                int cell = grid.index(r, c);
+                if ((r == this.top && grid.hasNorth(cell))
+                        || (c == this.left && grid.hasWest(cell))
+                        || (c == this.left + this.width - 1 && grid.hasEast(cell))
+                        || (r == this.top + this.height - 1 && grid.hasSouth(cell))) {
+                    found[count++] = cell;
+                }
+            }
+        }
+        int[] cells = Arrays.copyOf(found, count);
+        int[] dist = new int[count * count];
+        for (int i = 0; i < count; i++) {
+            search(cells[i], -1);
+            for (int j = 0; j < count; j++) {
+                dist[i * count + j] = localDistance(cells[j]);
+            }
+        }
+        this.entrances[cluster] = cells;
+        this.hops[cluster] = dist;
+    }
+
+    /**
+     * Searches a cluster from one cell and reads off the steps to each of
+     * its entrances
+     *
+     * @param cluster cluster the cell is in
+     * @param from cell to search from
+     * @param out array to reuse if it is big enough
+     * @return steps to each entrance, -1 where it can't be reached
+     */
+    private int[] distancesFrom(int cluster, int from, int[] out) {
+        int[] cells = entrances[cluster];
+        if (out.length < cells.length) {
+            out = new int[Math.max(cells.length, 2 * out.length)];
+        }
+        enter(cluster);
+        this.expanded += search(from, -1);
+        for (int j = 0; j < cells.length; j++) {
+            out[j] = localDistance(cells[j]);
+        }
+        return out;
+    }
+
+    /**
+     * Adds an entrance to the open list if this is the shortest way to it
+     * found so far
+     */
+    private void relax(int slot, int cell, int steps, int from, int mark, int finishRow, int finishCol) {
+        if (seen[slot] != mark || steps < g[slot]) {
+            seen[slot] = mark;
+            g[slot] = steps;
+            pred[slot] = from;
+            int estimate = Math.abs(grid.rowOf(cell) - finishRow) + Math.abs(grid.colOf(cell) - finishCol);
+            open.push(((long) (steps + estimate) << 32) | (Integer.MAX_VALUE - steps), slot);
+        }
+    }
+
+    /**
+     * Fills in the cells of the path, following the abstract search back
+     * from the last entrance and searching inside of a cluster only for
+     * the hops that cross one
+     *
+     * @param s start cell
+     * @param t finish cell
+     * @param last slot of the entrance the path leaves toward the finish from
+     */
+    private void expandPath(int s, int t, int last) {
+        IntQueue hopsTaken = new IntQueue();
+        for (int slot = last; slot != NONE; slot = pred[slot]) {
+            hopsTaken.add(slot);
+        }
+        int[] chain = new int[hopsTaken.size()];
+        for (int i = chain.length - 1; i >= 0; i--) {
+            chain[i] = hopsTaken.remove();
+        }
+        int first = chain[0] / slots;
+        appendClusterPath(first, s, cellOf(chain[0]));
+        for (int i = 1; i < chain.length; i++) {
+            int from = chain[i - 1] / slots;
+            int to = chain[i] / slots;
+            if (from == to) {
+                appendClusterPath(from, cellOf(chain[i - 1]), cellOf(chain[i]));
+            } else {
+                append(cellOf(chain[i]));
+            }
+        }
+        appendClusterPath(chain[chain.length - 1] / slots, cellOf(chain[chain.length - 1]), t);
+    }
+
+    /**
+     * Appends a shortest path inside of a cluster to the path, leaving out
+     * its first cell when the path already ends there
+     *
+     * @param cluster cluster both cells are in
+     * @param from cell the piece starts at
+     * @param to cell the piece ends at
+     */
+    private void appendClusterPath(int cluster, int from, int to) {
+        enter(cluster);
+        this.expanded += search(to, from);
+        int at = position(from);
+        if (this.pathSize == 0 || this.path[this.pathSize - 1] != from) {
+            append(from);
+        }
+        while (at != position(to)) {
+            at = localPred[at];
+            append(grid.index(this.top + at / this.width, this.left + at % this.width));
+        }
+    }
+
+    /**
+     * Adds a cell to the end of the path
+     */
+    private void append(int cell) {
+        if (this.pathSize == this.path.length) {
+            this.path = Arrays.copyOf(this.path, this.pathSize * 2);
+        }
+        this.path[this.pathSize++] = cell;
+    }
+
+    /**
+     * Breadth First Search that stays inside of the cluster last entered
+     *
+     * @param from cell to search from
+     * @param stop cell to stop at, or -1 to search the whole cluster
+     * @return number of cells expanded
+     */
+    private int search(int from, int stop) {
+        int mark = nextLocalEpoch();
+        IntQueue queue = this.queue;
+        queue.clear();
+        int origin = position(from);
+        localSeen[origin] = mark;
+        localDist[origin] = 0;
+        queue.add(from);
+        int count = 0;
+        while (!queue.isEmpty()) {
+            int cell = queue.remove();
+            count++;
+            if (cell == stop) {
+                break;
+            }
+            int here = position(cell);
+            int n = grid.neighbors(cell, nbrs);
+            for (int i = 0; i < n; i++) {
+                int nbr = nbrs[i];
+                int r = grid.rowOf(nbr) - this.top;
+                int c = grid.colOf(nbr) - this.left;
+                if (r < 0 || r >= this.height || c < 0 || c >= this.width) {
+                    continue;
+                }
+                int at = r * this.width + c;
+                if (localSeen[at] != mark) {
+                    localSeen[at] = mark;
+                    localDist[at] = localDist[here] + 1;
+                    localPred[at] = here;
+                    queue.add(nbr);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return steps from the cell the last search inside of a cluster
+     *          started at, -1 if it wasn't reached
+     */
+    private int localDistance(int cell) {
+        int at = position(cell);
+        return localSeen[at] == this.localEpoch ? localDist[at] : -1;
+    }
+
+    /**
+     * Makes a cluster the one the searches inside of a cluster stay in
+     */
+    private void enter(int cluster) {
+        this.top = cluster / this.clustersAcross * this.side;
+        this.left = cluster % this.clustersAcross * this.side;
+        this.height = Math.min(this.side, grid.numRows() - this.top);
+        this.width = Math.min(this.side, grid.numCols() - this.left);
+    }
+
+    /**
+     * @return position of a cell inside of the cluster last entered
+     */
+    private int position(int cell) {
+        return (grid.rowOf(cell) - this.top) * this.width + grid.colOf(cell) - this.left;
+    }
+
+    /**
+     * @return cluster a cell is in
+     */
+    private int clusterOf(int cell) {
+        return grid.rowOf(cell) / this.side * this.clustersAcross + grid.colOf(cell) / this.side;
+    }
+
+    /**
+     * @return entrance cell of a slot
+     */
+    private int cellOf(int slot) {
+        return entrances[slot / slots][slot % slots];
+    }
+
+    /**
+     * Moves on to the next abstract query number, clearing the marks on
+     * the rare occasion the counter wraps around
+     */
+    private int nextEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            Arrays.fill(this.seen, 0);
+            Arrays.fill(this.closed, 0);
+            this.epoch = 1;
+        }
+        return this.epoch;
+    }
+
+    /**
+     * Moves on to the next search number inside of a cluster
+     */
+    private int nextLocalEpoch() {
+        this.localEpoch++;
+        if (this.localEpoch == 0) {
+            Arrays.fill(this.localSeen, 0);
+            this.localEpoch = 1;
+        }
+        return this.localEpoch;
+    }
+}
@@ -0,0 +1,149 @@
+package mazepathfinder;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts non-negative values in power of two buckets: bucket 0 holds 0,
+ * and bucket b holds the values from 2^(b-1) up to 2^b - 1. That keeps
+ * the whole histogram at 64 counters no matter how many values go in,
+ * and a percentile read from it is never more than twice the real one.
+ * The count, sum and maximum are kept exactly.
+ *
+ * Values can be recorded from any number of threads at once without
+ * locking. A reader racing with writers may see a count and buckets that
+ * are a few values apart, which is fine for monitoring.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class Histogram {
+
+    /** One bucket for 0 and one for each bit of a long */
+    private static final int BUCKETS = 64;
+
+    /** Number of values in each bucket */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /** Number of values recorded */
+    private final AtomicLong count = new AtomicLong();
+
+    /** Sum of the values recorded */
+    private final AtomicLong sum = new AtomicLong();
+
+    /** Largest value recorded */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one value, negative values are counted as 0
+     *
+     * @param value value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long seen = max.get();
+        while (value > seen && !max.compareAndSet(seen, value)) {
+            seen = max.get();
+        }
+    }
+
+    /**
+     * @return number of values recorded
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return sum of the values recorded
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * @return largest value recorded, 0 if there are none
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return average of the values recorded, 0 if there are none
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Estimates a percentile as the top of the bucket it falls in, capped
+     * at the largest value recorded
+     *
+     * @param percent percentile wanted, from 0 to 100
+     * @return value at or below which that percent of the values fall,
+     *          0 if there are none
+     */
+    public long percentile(double percent) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] = buckets.get(b);
+            total += counts[b];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * Math.min(Math.max(percent, 0), 100) / 100);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank && counts[b] > 0) {
+                return Math.min(upperBound(b), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Forgets every value recorded so far
+     */
+    public void reset() {
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets.set(b, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * @param value non-negative value
+     * @return bucket the value is counted in
+     */
+    private static int bucketOf(long value) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * @param bucket bucket number
+     * @return largest value counted in the bucket
+     */
+    private static long upperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * @return count, mean, median, 90th and 99th percentile and maximum
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.1f p50=%d p90=%d p99=%d max=%d", getCount(), getMean(),
+                percentile(50), percentile(90), percentile(99), getMax());
+    }
+}
@@ -0,0 +1,61 @@
+package mazepathfinder;
+
+import java.util.List;
+
+/**
+ * Path finder that times every query of another path finder and records
+ * it, along with the counters of the wrapped finder, in a SearchMetrics.
+ * Wrap it around a CachingPathFinder to see cache hits as searches with
+ * nothing expanded.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class InstrumentedPathFinder implements PathFinder {
+
+    /** Path finder being measured */
+    private final PathFinder delegate;
+
+    /** Where the measurements go */
+    private final SearchMetrics metrics;
+
+    /**
+     * Constructor for the instrumented path finder
+     *
+     * @param delegate path finder to measure
+     * @param metrics where the measurements are recorded
+     */
+    public InstrumentedPathFinder(PathFinder delegate, SearchMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        long allocatedBefore = SearchMetrics.allocatedBytes();
+        long begin = System.nanoTime();
+        List<Coordinates> path = delegate.findPath(start, finish);
+        long nanos = System.nanoTime() - begin;
+        long allocated = allocatedBefore < 0 ? -1 : SearchMetrics.allocatedBytes() - allocatedBefore;
+        if (metrics.recordSearch(nanos, delegate.getNodesExpanded(), delegate.getPeakFrontier(), allocated)) {
+            metrics.setSlowest(nanos, delegate.getName() + " " + start + " to " + finish);
+        }
+        metrics.recordPath(path.size() - 1);
+        return path;
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return delegate.getNodesExpanded();
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return delegate.getPeakFrontier();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
@@ -0,0 +1,118 @@
+package mazepathfinder;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of int values ordered by long keys, kept in two
+ * parallel primitive arrays so that pushing and popping never boxes.
+ * There is no decrease-key, searches push a value again with its better
+ * key and skip the stale copy when it is popped.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class IntMinHeap {
+
+    /** Keys of the entries in heap order */
+    private long[] keys;
+
+    /** Values of the entries, parallel to keys */
+    private int[] values;
+
+    /** Number of entries in the heap */
+    private int size;
+
+    /**
+     * Creates an empty heap with a small starting capacity
+     */
+    public IntMinHeap() {
+        this.keys = new long[64];
+        this.values = new int[64];
+    }
+
+    /**
+     * Adds a value to the heap
+     *
+     * @param key key the value is ordered by, smallest comes out first
+     * @param value value to add
+     */
+    public void push(long key, int value) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size << 1);
+            this.values = Arrays.copyOf(this.values, this.size << 1);
+        }
+        int i = this.size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (this.keys[parent] <= key) {
+                break;
+            }
+            this.keys[i] = this.keys[parent];
+            this.values[i] = this.values[parent];
+            i = parent;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+    }
+
+    /**
+     * @rit.pre !this.isEmpty()
+     * @return the key of the smallest entry
+     */
+    public long peekKey() {
+        return this.keys[0];
+    }
+
+    /**
+     * Removes the smallest entry
+     *
+     * @rit.pre !this.isEmpty()
+     * @return the value of the smallest entry
+     */
+    public int pop() {
+        int top = this.values[0];
+        int n = --this.size;
+        long key = this.keys[n];
+        int value = this.values[n];
+        int i = 0;
+        while (true) {
+            int child = (i << 1) + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && this.keys[child + 1] < this.keys[child]) {
+                child++;
+            }
+            if (key <= this.keys[child]) {
+                break;
+            }
+            this.keys[i] = this.keys[child];
+            this.values[i] = this.values[child];
+            i = child;
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+        return top;
+    }
+
+    /**
+     * @return true if there is nothing in the heap
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return number of entries in the heap
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Empties the heap but keeps the arrays for the next use
+     */
+    public void clear() {
+        this.size = 0;
+    }
+}
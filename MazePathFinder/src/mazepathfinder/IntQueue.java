@@ -0,0 +1,98 @@
+package mazepathfinder;
+
+/**
+ * First in, first out queue of primitive ints stored in a ring buffer.
+ * The buffer doubles when it fills up and is never shrunk, so a queue that
+ * is cleared and reused between searches stops allocating once it has grown
+ * to the largest frontier it has seen.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class IntQueue {
+
+    /** Ring buffer holding the queued values, its length is a power of two */
+    private int[] ring;
+
+    /** Index of the value at the front of the queue */
+    private int head;
+
+    /** Number of values in the queue */
+    private int size;
+
+    /**
+     * Creates an empty queue with a small starting capacity
+     */
+    public IntQueue() {
+        this(64);
+    }
+
+    /**
+     * Creates an empty queue
+     *
+     * @param capacity number of values the queue holds before it grows
+     */
+    public IntQueue(int capacity) {
+        this.ring = new int[Integer.highestOneBit(Math.max(2, capacity - 1)) << 1];
+    }
+
+    /**
+     * Adds a value to the back of the queue
+     *
+     * @param value value to add
+     */
+    public void add(int value) {
+        if (this.size == this.ring.length) {
+            grow();
+        }
+        this.ring[(this.head + this.size) & (this.ring.length - 1)] = value;
+        this.size++;
+    }
+
+    /**
+     * Removes the value at the front of the queue
+     *
+     * @rit.pre !this.isEmpty()
+     * @return the value that was at the front
+     */
+    public int remove() {
+        int value = this.ring[this.head];
+        this.head = (this.head + 1) & (this.ring.length - 1);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * @return true if there is nothing in the queue
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return number of values in the queue
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Empties the queue but keeps the buffer for the next use
+     */
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Doubles the buffer and unwraps the values to the start of it
+     */
+    private void grow() {
+        int[] bigger = new int[this.ring.length << 1];
+        int firstPart = this.ring.length - this.head;
+        System.arraycopy(this.ring, this.head, bigger, 0, firstPart);
+        System.arraycopy(this.ring, 0, bigger, firstPart, this.head);
+        this.ring = bigger;
+        this.head = 0;
+    }
+}
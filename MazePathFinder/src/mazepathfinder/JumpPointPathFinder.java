@@ -0,0 +1,319 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PathFinder that runs Jump Point Search, an A* that skips over cells a
+ * shortest path has no reason to stop at. The maze only allows the four
+ * straight moves, so this uses the 4-connected form of the algorithm:
+ * shortest paths are tried horizontal moves first, so a horizontal move
+ * may turn north or south anywhere, while a vertical move only turns when
+ * the wall layout forces it (the cell it came from could not have made the
+ * same turn one row earlier). Jumps run in straight lines until they reach
+ * the finish or a cell where such a turn is needed, and only those cells
+ * are put on the open list.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class JumpPointPathFinder implements PathFinder {
+
+    /** Direction indices, opposite directions are two apart */
+    private static final int NORTH = 0, EAST = 1, SOUTH = 2, WEST = 3;
+
+    /** Arrival direction stored for the start cell */
+    private static final byte NO_DIR = -1;
+
+    /** Predecessor value stored for the start cell */
+    private static final int NONE = -1;
+
+    /** Maze being searched */
+    private final HedgeMaze hedgeMaze;
+
+    /** Grid of the maze */
+    private final GridGraph grid;
+
+    /** Number of columns, the index step of a vertical move */
+    private final int cols;
+
+    /** Best number of steps found so far to each jump point */
+    private final int[] g;
+
+    /** Jump point each jump point was reached from */
+    private final int[] pred;
+
+    /** Direction of the jump each jump point was reached by */
+    private final byte[] arrival;
+
+    /** Query number that last reached each cell */
+    private final int[] seen;
+
+    /** Query number that last expanded each cell */
+    private final int[] closed;
+
+    /** Query number of the current search */
+    private int epoch;
+
+    /** Open list keyed by estimated total length, then by steps taken */
+    private final IntMinHeap open = new IntMinHeap();
+
+    /** Number of jump points expanded by the last query */
+    private int expanded;
+
+    /** Largest size of the open list during the last query */
+    private int peakFrontier;
+
+    /**
+     * Constructor for the Jump Point Search path finder
+     *
+     * @param hedgeMaze maze to search
+     */
+    public JumpPointPathFinder(HedgeMaze hedgeMaze) {
+        this.hedgeMaze = hedgeMaze;
+        this.grid = hedgeMaze.getGrid();
+        this.cols = grid.numCols();
+        this.g = new int[grid.size()];
+        this.pred = new int[grid.size()];
+        this.arrival = new byte[grid.size()];
+        this.seen = new int[grid.size()];
+        this.closed = new int[grid.size()];
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        int startCell = hedgeMaze.toCell(start);
+        int goal = hedgeMaze.toCell(finish);
+        int mark = nextEpoch();
+        open.clear();
+        this.expanded = 0;
+        this.peakFrontier = 1;
+
+        seen[startCell] = mark;
+        g[startCell] = 0;
+        pred[startCell] = NONE;
+        arrival[startCell] = NO_DIR;
+        open.push(key(0, estimate(startCell, goal)), startCell);
+        while (!open.isEmpty()) {
+            if (open.size() > this.peakFrontier) {
+                this.peakFrontier = open.size();
+            }
+            int current = open.pop();
+            if (closed[current] == mark) {
+                continue;
+            }
+            closed[current] = mark;
+            this.expanded++;
+            if (current == goal) {
+                return buildPath(goal);
+            }
+            int dir = arrival[current];
+            if (dir == NO_DIR) {
+                for (int d = NORTH; d <= WEST; d++) {
+                    relax(current, jump(current, d, goal), d, goal, mark);
+                }
+            } else if (dir == EAST || dir == WEST) {
+                relax(current, jumpHorizontal(current, dir, goal), dir, goal, mark);
+                relax(current, jumpVertical(current, NORTH, goal), NORTH, goal, mark);
+                relax(current, jumpVertical(current, SOUTH, goal), SOUTH, goal, mark);
+            } else {
+                relax(current, jumpVertical(current, dir, goal), dir, goal, mark);
+                int behind = step(current, dir ^ 2);
+                for (int h = EAST; h <= WEST; h += 2) {
+                    if (forced(current, behind, h, dir)) {
+                        relax(current, jumpHorizontal(current, h, goal), h, goal, mark);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Records a jump point found from the current one if it improves on
+     * the best path known to it
+     *
+     * @param from jump point being expanded
+     * @param to jump point that was found, or NONE
+     * @param dir direction of the jump
+     * @param goal finish cell
+     * @param mark query number of the search
+     */
+    private void relax(int from, int to, int dir, int goal, int mark) {
+        if (to == NONE) {
+            return;
+        }
+        int steps = g[from] + Math.abs(grid.rowOf(to) - grid.rowOf(from))
+                + Math.abs(grid.colOf(to) - grid.colOf(from));
+        if (seen[to] != mark || steps < g[to]) {
+            seen[to] = mark;
+            g[to] = steps;
+            pred[to] = from;
+            arrival[to] = (byte) dir;
+            open.push(key(steps, estimate(to, goal)), to);
+        }
+    }
+
+    /**
+     * @return the next jump point in any direction, or NONE
+     */
+    private int jump(int cell, int dir, int goal) {
+        return dir == EAST || dir == WEST
+                ? jumpHorizontal(cell, dir, goal)
+                : jumpVertical(cell, dir, goal);
+    }
+
+    /**
+     * Moves east or west one cell at a time. A cell is a jump point if it
+     * is the finish or if a vertical jump from it finds a jump point.
+     *
+     * @param cell cell the jump starts from
+     * @param dir EAST or WEST
+     * @param goal finish cell
+     * @return the jump point reached, or NONE if the jump hit a wall first
+     */
+    private int jumpHorizontal(int cell, int dir, int goal) {
+        int at = cell;
+        while (canMove(at, dir)) {
+            at = step(at, dir);
+            if (at == goal
+                    || jumpVertical(at, NORTH, goal) != NONE
+                    || jumpVertical(at, SOUTH, goal) != NONE) {
+                return at;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Moves north or south one cell at a time. A cell is a jump point if it
+     * is the finish or if it has a forced horizontal turn.
+     *
+     * @param cell cell the jump starts from
+     * @param dir NORTH or SOUTH
+     * @param goal finish cell
+     * @return the jump point reached, or NONE if the jump hit a wall first
+     */
+    private int jumpVertical(int cell, int dir, int goal) {
+        int behind = cell;
+        while (canMove(behind, dir)) {
+            int at = step(behind, dir);
+            if (at == goal || forced(at, behind, EAST, dir) || forced(at, behind, WEST, dir)) {
+                return at;
+            }
+            behind = at;
+        }
+        return NONE;
+    }
+
+    /**
+     * Checks if a cell reached by a vertical move has to turn horizontally
+     * itself. It does when the turn is open but the cell it came from
+     * could not turn the same way and then take the same vertical step.
+     *
+     * @param cell cell reached by the vertical move
+     * @param behind cell the move came from
+     * @param turn EAST or WEST
+     * @param dir NORTH or SOUTH, the direction of the vertical move
+     * @return true if the turn is forced
+     */
+    private boolean forced(int cell, int behind, int turn, int dir) {
+        return canMove(cell, turn)
+                && !(canMove(behind, turn) && canMove(step(behind, turn), dir));
+    }
+
+    /**
+     * @return true if the passage out of the cell in the direction is open
+     */
+    private boolean canMove(int cell, int dir) {
+        switch (dir) {
+            case NORTH: return grid.hasNorth(cell);
+            case EAST: return grid.hasEast(cell);
+            case SOUTH: return grid.hasSouth(cell);
+            default: return grid.hasWest(cell);
+        }
+    }
+
+    /**
+     * @return the index of the neighbor of the cell in the direction
+     */
+    private int step(int cell, int dir) {
+        switch (dir) {
+            case NORTH: return cell - cols;
+            case EAST: return cell + 1;
+            case SOUTH: return cell + cols;
+            default: return cell - 1;
+        }
+    }
+
+    /**
+     * @return Manhattan distance between the two cells
+     */
+    private int estimate(int cell, int goal) {
+        return Math.abs(grid.rowOf(cell) - grid.rowOf(goal))
+                + Math.abs(grid.colOf(cell) - grid.colOf(goal));
+    }
+
+    /**
+     * Orders by estimated total length first and prefers the most steps
+     * taken when two cells tie
+     */
+    private static long key(int steps, int estimate) {
+        return ((long) (steps + estimate) << 32) | (Integer.MAX_VALUE - steps);
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.expanded;
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    @Override
+    public String getName() {
+        return "jps";
+    }
+
+    /**
+     * Walks the jump points back from the finish and fills in the straight
+     * runs of cells between each pair of them
+     *
+     * @param goal cell the path ends at
+     * @return the coordinates from the start to the finish
+     */
+    private List<Coordinates> buildPath(int goal) {
+        Coordinates[] path = new Coordinates[g[goal] + 1];
+        int i = path.length - 1;
+        int at = goal;
+        while (pred[at] != NONE) {
+            int from = pred[at];
+            int back = step(0, arrival[at] ^ 2);
+            for (int cell = at; cell != from; cell += back) {
+                path[i--] = hedgeMaze.toCoordinates(cell);
+            }
+            at = from;
+        }
+        path[i] = hedgeMaze.toCoordinates(at);
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Moves on to the next query number, clearing the marks on the rare
+     * occasion the counter wraps around
+     *
+     * @return the query number to mark cells with
+     */
+    private int nextEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            Arrays.fill(this.seen, 0);
+            Arrays.fill(this.closed, 0);
+            this.epoch = 1;
+        }
+        return this.epoch;
+    }
+}
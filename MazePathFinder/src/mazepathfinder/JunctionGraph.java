@@ -0,0 +1,403 @@
+package mazepathfinder;
+
+import java.util.Arrays;
+
+/**
+ * The maze with its dead ends filled in and its corridors contracted,
+ * which is all a search between two far apart cells has to look at.
+ *
+ * Dead end filling peels off every cell with one open neighbor, over and
+ * over, until only the cells on some loop are left, the core. Each peeled
+ * cell remembers the neighbor it hung from when it was peeled, so the
+ * peeled cells form trees hanging off of the core, or whole trees of their
+ * own in parts of the maze with no loop at all. In a perfect maze nothing
+ * but trees is left. The path from a peeled cell to anywhere outside of
+ * its tree has to climb the tree first, so that part of every path is
+ * found without searching.
+ *
+ * In the core, every cell with other than two open core neighbors is a
+ * junction, and each corridor of two-neighbor cells between junctions is
+ * contracted into one edge weighted by its length. A loop with no
+ * junction on it gets one of its cells made a junction. Corridor cells
+ * keep their edge and how far along it they are, so an edge can be walked
+ * again to turn it back into cells.
+ *
+ * The graph is a snapshot of the walls when it was built.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class JunctionGraph {
+
+    /** Parent of a peeled cell that is the root of its own tree */
+    public static final int NONE = -1;
+
+    /** Parent of a cell in the core */
+    public static final int CORE = -2;
+
+    /** The grid the graph was built from */
+    private final GridGraph grid;
+
+    /** Cell each peeled cell hangs from, NONE for the root of a tree, CORE in the core */
+    private final int[] up;
+
+    /** For core cells, ~junction for a junction and the edge for a corridor cell */
+    private final int[] place;
+
+    /** For corridor cells, steps along their edge from its first junction */
+    private final int[] offset;
+
+    /** Cell of every junction */
+    private int[] junctionCell;
+
+    /** Number of junctions */
+    private int junctions;
+
+    /** First junction, second junction, length and cell after the first
+     *  junction of every edge, four ints per edge */
+    private int[] edges;
+
+    /** Number of edges */
+    private int edgeCount;
+
+    /** Where the edges of each junction start in adjacentEdges, by junction */
+    private int[] adjacentStart;
+
+    /** Edges of every junction, self loops left out */
+    private int[] adjacentEdges;
+
+    /** Number of cells filled in as dead ends */
+    private int peeled;
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /**
+     * Fills the dead ends and contracts the corridors of a maze
+     *
+     * @param hedgeMaze maze to build the graph of
+     */
+    public JunctionGraph(HedgeMaze hedgeMaze) {
+        this.grid = hedgeMaze.getGrid();
+        int size = grid.size();
+        this.up = new int[size];
+        this.place = new int[size];
+        this.offset = new int[size];
+        int[] degree = fillDeadEnds();
+        findJunctions(degree);
+        contractCorridors();
+        linkJunctions();
+    }
+
+    /**
+     * Peels cells with one open neighbor left until none are left
+     *
+     * @return number of open neighbors of every core cell in the core
+     */
+    private int[] fillDeadEnds() {
+        int size = grid.size();
+        int[] degree = new int[size];
+        IntQueue queue = new IntQueue();
+        for (int cell = 0; cell < size; cell++) {
+            this.up[cell] = CORE;
+            degree[cell] = grid.neighbors(cell, nbrs);
+            if (degree[cell] <= 1) {
+                queue.add(cell);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int cell = queue.remove();
+            int parent = NONE;
+            int count = grid.neighbors(cell, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (this.up[nbr] == CORE) {
+                    parent = nbr;
+                    if (--degree[nbr] == 1) {
+                        queue.add(nbr);
+                    }
+                }
+            }
+            this.up[cell] = parent;
+            this.peeled++;
+        }
+        return degree;
+    }
+
+    /**
+     * Numbers the core cells that don't have exactly two core neighbors
+     */
+    private void findJunctions(int[] degree) {
+        this.junctionCell = new int[16];
+        for (int cell = 0; cell < grid.size(); cell++) {
+            if (this.up[cell] == CORE && degree[cell] != 2) {
+                addJunction(cell);
+            }
+        }
+    }
+
+    /**
+     * Walks every corridor leaving every junction into an edge, then makes
+     * a junction on every loop that is still left over
+     */
+    private void contractCorridors() {
+        this.edges = new int[64];
+        for (int j = 0; j < this.junctions; j++) {
+            contractFrom(j);
+        }
+        for (int cell = 0; cell < grid.size(); cell++) {
+            if (this.up[cell] == CORE && this.place[cell] == 0 && this.offset[cell] == 0) {
+                contractFrom(addJunction(cell));
+            }
+        }
+    }
+
+    /**
+     * Makes an edge of every corridor leaving a junction that isn't an
+     * edge yet
+     */
+    private void contractFrom(int junction) {
+        int cell = this.junctionCell[junction];
+        int[] around = new int[4];
+        int count = coreNeighbors(cell, around);
+        for (int i = 0; i < count; i++) {
+            int first = around[i];
+            if (this.place[first] < 0) {
+                // two junctions side by side, one edge between them
+                if (first > cell) {
+                    addEdge(junction, ~this.place[first], 1, first);
+                }
+                continue;
+            }
+            if (this.offset[first] != 0) {
+                continue;
+            }
+            int edge = this.edgeCount;
+            int prev = cell;
+            int at = first;
+            int steps = 1;
+            while (this.place[at] >= 0) {
+                this.place[at] = edge;
+                this.offset[at] = steps;
+                int next = otherCoreNeighbor(at, prev);
+                prev = at;
+                at = next;
+                steps++;
+            }
+            addEdge(junction, ~this.place[at], steps, first);
+        }
+    }
+
+    /**
+     * Lists the edges of every junction, leaving out the edges that loop
+     * back to their own junction since no shortest path takes one
+     */
+    private void linkJunctions() {
+        this.adjacentStart = new int[this.junctions + 1];
+        for (int e = 0; e < this.edgeCount; e++) {
+            if (edgeA(e) != edgeB(e)) {
+                this.adjacentStart[edgeA(e) + 1]++;
+                this.adjacentStart[edgeB(e) + 1]++;
+            }
+        }
+        for (int j = 0; j < this.junctions; j++) {
+            this.adjacentStart[j + 1] += this.adjacentStart[j];
+        }
+        this.adjacentEdges = new int[this.adjacentStart[this.junctions]];
+        int[] fill = Arrays.copyOf(this.adjacentStart, this.junctions);
+        for (int e = 0; e < this.edgeCount; e++) {
+            if (edgeA(e) != edgeB(e)) {
+                this.adjacentEdges[fill[edgeA(e)]++] = e;
+                this.adjacentEdges[fill[edgeB(e)]++] = e;
+            }
+        }
+    }
+
+    /**
+     * @return number of the new junction
+     */
+    private int addJunction(int cell) {
+        if (this.junctions == this.junctionCell.length) {
+            this.junctionCell = Arrays.copyOf(this.junctionCell, this.junctions * 2);
+        }
+        this.junctionCell[this.junctions] = cell;
+        this.place[cell] = ~this.junctions;
+        return this.junctions++;
+    }
+
+    private void addEdge(int a, int b, int length, int first) {
+        if (this.edgeCount * 4 == this.edges.length) {
+            this.edges = Arrays.copyOf(this.edges, this.edges.length * 2);
+        }
+        int base = this.edgeCount * 4;
+        this.edges[base] = a;
+        this.edges[base + 1] = b;
+        this.edges[base + 2] = length;
+        this.edges[base + 3] = first;
+        this.edgeCount++;
+    }
+
+    /**
+     * Writes the neighbors of a cell that are in the core into an array
+     *
+     * @return number of core neighbors
+     */
+    private int coreNeighbors(int cell, int[] out) {
+        int count = grid.neighbors(cell, out);
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (this.up[out[i]] == CORE) {
+                out[kept++] = out[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * @return the core neighbor of a corridor cell that isn't the one given
+     */
+    private int otherCoreNeighbor(int cell, int notThis) {
+        int count = grid.neighbors(cell, nbrs);
+        for (int i = 0; i < count; i++) {
+            if (nbrs[i] != notThis && this.up[nbrs[i]] == CORE) {
+                return nbrs[i];
+            }
+        }
+        return notThis;
+    }
+
+    /**
+     * Writes the cells of an edge into an array, from its first junction
+     * to its second
+     *
+     * @param edge edge to walk
+     * @param out array to write into, grown and returned if it is too small
+     * @return the array the cells were written into, edgeLength + 1 of them
+     */
+    public int[] walkEdge(int edge, int[] out) {
+        int length = edgeLength(edge);
+        if (out.length <= length) {
+            out = new int[Math.max(length + 1, out.length * 2)];
+        }
+        int prev = this.junctionCell[edgeA(edge)];
+        int at = this.edges[edge * 4 + 3];
+        out[0] = prev;
+        for (int i = 1; i < length; i++) {
+            out[i] = at;
+            int next = otherCoreNeighbor(at, prev);
+            prev = at;
+            at = next;
+        }
+        out[length] = this.junctionCell[edgeB(edge)];
+        return out;
+    }
+
+    /**
+     * @return the cell a peeled cell hangs from, NONE if it is the root of
+     *          its own tree, or CORE if the cell is in the core
+     */
+    public int parent(int cell) {
+        return this.up[cell];
+    }
+
+    /**
+     * @return the junction of a cell, or -1 if it is not a junction
+     */
+    public int junctionOf(int cell) {
+        return this.up[cell] == CORE && this.place[cell] < 0 ? ~this.place[cell] : -1;
+    }
+
+    /**
+     * @rit.pre parent( cell ) == CORE and junctionOf( cell ) < 0
+     * @return the edge a corridor cell is on
+     */
+    public int edgeOf(int cell) {
+        return this.place[cell];
+    }
+
+    /**
+     * @rit.pre parent( cell ) == CORE and junctionOf( cell ) < 0
+     * @return steps along its edge from the first junction of the edge
+     */
+    public int offsetOf(int cell) {
+        return this.offset[cell];
+    }
+
+    /**
+     * @return cell of a junction
+     */
+    public int junctionCell(int junction) {
+        return this.junctionCell[junction];
+    }
+
+    /**
+     * @return first junction of an edge
+     */
+    public int edgeA(int edge) {
+        return this.edges[edge * 4];
+    }
+
+    /**
+     * @return second junction of an edge
+     */
+    public int edgeB(int edge) {
+        return this.edges[edge * 4 + 1];
+    }
+
+    /**
+     * @return number of moves along an edge
+     */
+    public int edgeLength(int edge) {
+        return this.edges[edge * 4 + 2];
+    }
+
+    /**
+     * @return index in adjacentEdge of the first edge of a junction, the
+     *          edges of junction j are from adjacentStart( j ) up to
+     *          adjacentStart( j + 1 )
+     */
+    public int adjacentStart(int junction) {
+        return this.adjacentStart[junction];
+    }
+
+    /**
+     * @return an edge of the list of edges of every junction
+     */
+    public int adjacentEdge(int index) {
+        return this.adjacentEdges[index];
+    }
+
+    /**
+     * @return number of junctions
+     */
+    public int getJunctionCount() {
+        return this.junctions;
+    }
+
+    /**
+     * @return number of edges
+     */
+    public int getEdgeCount() {
+        return this.edgeCount;
+    }
+
+    /**
+     * @return number of cells filled in as dead ends
+     */
+    public int getPeeledCount() {
+        return this.peeled;
+    }
+
+    /**
+     * @return the grid the graph was built from
+     */
+    public GridGraph getGrid() {
+        return this.grid;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d cells filled as dead ends, %d junctions joined by %d corridors",
+                this.peeled, grid.size(), this.junctions, this.edgeCount);
+    }
+}
@@ -0,0 +1,419 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PathFinder that searches the JunctionGraph of a maze instead of its
+ * cells. The start and the finish first climb the trees of filled in dead
+ * ends they are in, and two cells of the same tree are joined through the
+ * tree without searching at all. Otherwise Dijkstra's algorithm runs over
+ * the junctions, starting from the ends of the corridor the start climbed
+ * onto, until nothing left on the open list can beat the best way found
+ * into the corridor the finish climbed onto. Only the corridors that end
+ * up on the path are walked back into cells.
+ *
+ * In a perfect maze every query is answered by climbing, and in a maze
+ * with loops the search only ever sees junctions, so far fewer nodes are
+ * expanded than cells Breadth First Search expands, and the paths are
+ * just as short. A wall change throws the graph away and it is built
+ * again before the next query.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class JunctionPathFinder implements PathFinder, WallListener {
+
+    /** Edge a junction was reached through when the start is that junction */
+    private static final int SEED_HERE = -1;
+
+    /** Edge a junction was reached through when it is the first junction of the start's corridor */
+    private static final int SEED_A = -2;
+
+    /** Edge a junction was reached through when it is the second junction of the start's corridor */
+    private static final int SEED_B = -3;
+
+    /** Best junction of a query whose path stays on the corridor both ends are on */
+    private static final int DIRECT = -1;
+
+    /** Maze being searched */
+    private final HedgeMaze hedgeMaze;
+
+    /** Graph of the maze, null after a wall change until the next query */
+    private JunctionGraph graph;
+
+    /** Steps to every junction reached by the search */
+    private int[] dist;
+
+    /** Edge each junction was reached through, or one of the SEED values */
+    private int[] predEdge;
+
+    /** Query number that last reached each junction */
+    private int[] seen;
+
+    /** Query number that last expanded each junction */
+    private int[] closed;
+
+    /** Query number of the current search */
+    private int epoch;
+
+    /** Open list of the search, keyed by steps */
+    private final IntMinHeap open = new IntMinHeap();
+
+    /** Whether the finish corridor is entered from its first junction, for the best junction */
+    private boolean finishFromA;
+
+    /** Cells of the path being put together */
+    private int[] path = new int[64];
+
+    /** Number of cells in path */
+    private int pathSize;
+
+    /** Cells of the edge last walked */
+    private int[] edgeCells = new int[64];
+
+    /** Junctions expanded by the last query */
+    private int expanded;
+
+    /** Largest open list of the last query */
+    private int peakFrontier;
+
+    /**
+     * Constructor that builds the graph and listens for wall changes
+     *
+     * @param hedgeMaze maze to search
+     */
+    public JunctionPathFinder(HedgeMaze hedgeMaze) {
+        this.hedgeMaze = hedgeMaze;
+        hedgeMaze.addWallListener(this);
+        build();
+    }
+
+    /**
+     * Builds the graph of the maze as its walls are now
+     */
+    private void build() {
+        this.graph = new JunctionGraph(this.hedgeMaze);
+        int junctions = this.graph.getJunctionCount();
+        this.dist = new int[junctions];
+        this.predEdge = new int[junctions];
+        this.seen = new int[junctions];
+        this.closed = new int[junctions];
+        this.epoch = 0;
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        if (this.graph == null) {
+            build();
+        }
+        JunctionGraph graph = this.graph;
+        int startCell = hedgeMaze.toCell(start);
+        int finishCell = hedgeMaze.toCell(finish);
+        this.expanded = 0;
+        this.peakFrontier = 0;
+        this.pathSize = 0;
+
+        int startTop = top(startCell);
+        int finishTop = top(finishCell);
+        if (startTop == finishTop) {
+            joinInTree(startCell, finishCell);
+        } else {
+            if (graph.parent(startTop) != JunctionGraph.CORE || graph.parent(finishTop) != JunctionGraph.CORE) {
+                return new ArrayList<>();
+            }
+            for (int at = startCell; at != startTop; at = graph.parent(at)) {
+                append(at);
+            }
+            if (!searchCore(startTop, finishTop)) {
+                return new ArrayList<>();
+            }
+            int from = this.pathSize;
+            for (int at = finishCell; at != finishTop; at = graph.parent(at)) {
+                append(at);
+            }
+            reverse(from);
+        }
+        List<Coordinates> found = new ArrayList<>(this.pathSize);
+        for (int i = 0; i < this.pathSize; i++) {
+            found.add(hedgeMaze.toCoordinates(this.path[i]));
+        }
+        return found;
+    }
+
+    /**
+     * @return the core cell a cell hangs from, the root of its tree if its
+     *          tree doesn't hang from the core, or the cell itself if it is
+     *          in the core
+     */
+    private int top(int cell) {
+        while (this.graph.parent(cell) >= 0) {
+            cell = this.graph.parent(cell);
+        }
+        return cell;
+    }
+
+    /**
+     * @return number of climbs from a cell to the top of its tree
+     */
+    private int depth(int cell) {
+        int depth = 0;
+        for (; this.graph.parent(cell) >= 0; cell = this.graph.parent(cell)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Puts together the only path between two cells of one tree, up from
+     * the start to where the two climbs meet and down to the finish
+     */
+    private void joinInTree(int startCell, int finishCell) {
+        JunctionGraph graph = this.graph;
+        int a = startCell;
+        int b = finishCell;
+        int aDepth = depth(a);
+        int bDepth = depth(b);
+        for (; aDepth > bDepth; aDepth--) {
+            a = graph.parent(a);
+        }
+        for (; bDepth > aDepth; bDepth--) {
+            b = graph.parent(b);
+        }
+        while (a != b) {
+            a = graph.parent(a);
+            b = graph.parent(b);
+        }
+        for (int at = startCell; at != a; at = graph.parent(at)) {
+            append(at);
+        }
+        append(a);
+        int from = this.pathSize;
+        for (int at = finishCell; at != a; at = graph.parent(at)) {
+            append(at);
+        }
+        reverse(from);
+    }
+
+    /**
+     * Finds a shortest path between two core cells over the junctions and
+     * adds its cells to the path
+     *
+     * @return false if the two cells don't connect
+     */
+    private boolean searchCore(int startCell, int finishCell) {
+        JunctionGraph graph = this.graph;
+        int mark = nextEpoch();
+        IntMinHeap open = this.open;
+        open.clear();
+
+        int startJunction = graph.junctionOf(startCell);
+        int finishJunction = graph.junctionOf(finishCell);
+        int startEdge = startJunction < 0 ? graph.edgeOf(startCell) : -1;
+        int finishEdge = finishJunction < 0 ? graph.edgeOf(finishCell) : -1;
+        int startOffset = startJunction < 0 ? graph.offsetOf(startCell) : 0;
+        int finishOffset = finishJunction < 0 ? graph.offsetOf(finishCell) : 0;
+
+        int best = Integer.MAX_VALUE;
+        int bestJunction = DIRECT;
+        boolean bestFromA = false;
+        if (startEdge >= 0 && startEdge == finishEdge) {
+            best = Math.abs(startOffset - finishOffset);
+        }
+        if (startJunction >= 0) {
+            relax(startJunction, 0, SEED_HERE, mark);
+        } else {
+            relax(graph.edgeA(startEdge), startOffset, SEED_A, mark);
+            relax(graph.edgeB(startEdge), graph.edgeLength(startEdge) - startOffset, SEED_B, mark);
+        }
+        while (!open.isEmpty()) {
+            this.peakFrontier = Math.max(this.peakFrontier, open.size());
+            if (open.peekKey() >= best) {
+                break;
+            }
+            int junction = open.pop();
+            if (closed[junction] == mark) {
+                continue;
+            }
+            closed[junction] = mark;
+            this.expanded++;
+            int steps = dist[junction];
+            int rest = stepsToFinish(junction, finishJunction, finishEdge, finishOffset);
+            if (rest >= 0 && steps + rest < best) {
+                best = steps + rest;
+                bestJunction = junction;
+                bestFromA = this.finishFromA;
+            }
+            int end = graph.adjacentStart(junction + 1);
+            for (int i = graph.adjacentStart(junction); i < end; i++) {
+                int edge = graph.adjacentEdge(i);
+                int other = graph.edgeA(edge) == junction ? graph.edgeB(edge) : graph.edgeA(edge);
+                relax(other, steps + graph.edgeLength(edge), edge, mark);
+            }
+        }
+        if (best == Integer.MAX_VALUE) {
+            return false;
+        }
+        if (bestJunction == DIRECT) {
+            appendEdge(startEdge, startOffset, finishOffset);
+            return true;
+        }
+
+        // edges from the best junction back to the one the search started at
+        int[] chain = new int[16];
+        int hops = 0;
+        int first = bestJunction;
+        while (predEdge[first] >= 0) {
+            if (hops == chain.length) {
+                chain = Arrays.copyOf(chain, hops * 2);
+            }
+            int edge = predEdge[first];
+            chain[hops++] = edge;
+            first = graph.edgeA(edge) == first ? graph.edgeB(edge) : graph.edgeA(edge);
+        }
+        if (predEdge[first] == SEED_A) {
+            appendEdge(startEdge, startOffset, 1);
+        } else if (predEdge[first] == SEED_B) {
+            appendEdge(startEdge, startOffset, graph.edgeLength(startEdge) - 1);
+        }
+        append(graph.junctionCell(first));
+        for (int at = first, i = hops - 1; i >= 0; i--) {
+            int edge = chain[i];
+            int length = graph.edgeLength(edge);
+            if (graph.edgeA(edge) == at) {
+                appendEdge(edge, 1, length);
+                at = graph.edgeB(edge);
+            } else {
+                appendEdge(edge, length - 1, 0);
+                at = graph.edgeA(edge);
+            }
+        }
+        if (finishJunction < 0) {
+            if (bestFromA) {
+                appendEdge(finishEdge, 1, finishOffset);
+            } else {
+                appendEdge(finishEdge, graph.edgeLength(finishEdge) - 1, finishOffset);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a way to a junction if it is the first or a shorter one
+     */
+    private void relax(int junction, int steps, int edge, int mark) {
+        if (seen[junction] != mark || steps < dist[junction]) {
+            seen[junction] = mark;
+            dist[junction] = steps;
+            predEdge[junction] = edge;
+            open.push(steps, junction);
+        }
+    }
+
+    /**
+     * Works out how far the finish is from a junction without passing
+     * another junction, and sets finishFromA to the end of the finish
+     * corridor that way enters from
+     *
+     * @return the steps, or -1 if the finish can't be reached that way
+     */
+    private int stepsToFinish(int junction, int finishJunction, int finishEdge, int finishOffset) {
+        if (finishJunction >= 0) {
+            return junction == finishJunction ? 0 : -1;
+        }
+        int rest = -1;
+        if (this.graph.edgeA(finishEdge) == junction) {
+            rest = finishOffset;
+            this.finishFromA = true;
+        }
+        if (this.graph.edgeB(finishEdge) == junction) {
+            int fromB = this.graph.edgeLength(finishEdge) - finishOffset;
+            if (rest < 0 || fromB < rest) {
+                rest = fromB;
+                this.finishFromA = false;
+            }
+        }
+        return rest;
+    }
+
+    /**
+     * Adds cells of an edge to the path, by how far along the edge they are
+     *
+     * @param edge edge the cells are on
+     * @param from steps along the edge of the first cell added
+     * @param to steps along the edge of the last cell added, before from
+     *           to walk the edge backwards
+     */
+    private void appendEdge(int edge, int from, int to) {
+        this.edgeCells = this.graph.walkEdge(edge, this.edgeCells);
+        int step = from <= to ? 1 : -1;
+        for (int i = from; i != to + step; i += step) {
+            append(this.edgeCells[i]);
+        }
+    }
+
+    /**
+     * Adds a cell to the end of the path
+     */
+    private void append(int cell) {
+        if (this.pathSize == this.path.length) {
+            this.path = Arrays.copyOf(this.path, this.pathSize * 2);
+        }
+        this.path[this.pathSize++] = cell;
+    }
+
+    /**
+     * Turns around the cells of the path from an index to its end
+     */
+    private void reverse(int from) {
+        for (int i = from, j = this.pathSize - 1; i < j; i++, j--) {
+            int swap = this.path[i];
+            this.path[i] = this.path[j];
+            this.path[j] = swap;
+        }
+    }
+
+    /**
+     * Moves on to the next query number, clearing the marks when it wraps
+     */
+    private int nextEpoch() {
+        this.epoch++;
+        if (this.epoch == 0) {
+            Arrays.fill(this.seen, 0);
+            Arrays.fill(this.closed, 0);
+            this.epoch = 1;
+        }
+        return this.epoch;
+    }
+
+    @Override
+    public void wallChanged(HedgeMaze hMaze, int cell1, int cell2, boolean open) {
+        this.graph = null;
+    }
+
+    /**
+     * @return the graph being searched, built again first if a wall changed
+     */
+    public JunctionGraph getGraph() {
+        if (this.graph == null) {
+            build();
+        }
+        return this.graph;
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.expanded;
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    @Override
+    public String getName() {
+        return "junction";
+    }
+}
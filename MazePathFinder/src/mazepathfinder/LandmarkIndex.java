@@ -0,0 +1,316 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precomputed distances from a few landmark cells to every cell of a
+ * maze. By the triangle inequality the distance between any two cells is
+ * at least |d(L,s) - d(L,t)| and at most d(L,s) + d(L,t) for every
+ * landmark L. The lower bound is what A* needs (the ALT heuristic), and
+ * when the two bounds meet the distance is known without any search.
+ *
+ * Landmarks are picked one at a time as the cell furthest from the ones
+ * already picked, which spreads them around the edges of the maze where
+ * the bounds are tightest. The index can be saved next to the maze file
+ * and is only reused if the walls of the maze have not changed. When a
+ * wall changes at runtime the distances of every landmark are repaired
+ * with DistanceRepair; the landmarks themselves stay where they are.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class LandmarkIndex implements WallListener {
+
+    /** Number of landmarks used when none is given */
+    public static final int DEFAULT_LANDMARKS = 8;
+
+    /** Returned by lowerBound for cells that can't reach each other */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** First four bytes of a saved index */
+    private static final int MAGIC = ('H' << 24) | ('L' << 16) | ('M' << 8) | 'K';
+
+    /** Version written into new files */
+    private static final int VERSION = 1;
+
+    /** Size of the header of a saved index in bytes */
+    private static final int HEADER_BYTES = 32;
+
+    /** Number of ints mapped at a time when reading or writing */
+    private static final int WINDOW_INTS = 1 << 26;
+
+    /** Grid the distances were measured on */
+    private final GridGraph grid;
+
+    /** Cell of every landmark */
+    private final int[] landmarks;
+
+    /** Distance from every landmark to every cell, -1 if unreachable */
+    private final int[][] dist;
+
+    /**
+     * @param grid grid the distances were measured on
+     * @param landmarks cell of every landmark
+     * @param dist distances from every landmark
+     */
+    private LandmarkIndex(GridGraph grid, int[] landmarks, int[][] dist) {
+        this.grid = grid;
+        this.landmarks = landmarks;
+        this.dist = dist;
+    }
+
+    /**
+     * Builds an index by running one full search per landmark
+     *
+     * @param hMaze maze to index
+     * @param count number of landmarks to pick
+     * @return the new index
+     */
+    public static LandmarkIndex build(HedgeMaze hMaze, int count) {
+        GridGraph grid = hMaze.getGrid();
+        int n = grid.size();
+        count = Math.max(1, Math.min(count, n));
+        BfsEngine engine = new BfsEngine(grid);
+        int[] landmarks = new int[count];
+        int[][] dist = new int[count][];
+        int[] nearest = new int[n];
+
+        int[] probe = new int[n];
+        engine.fillDistances(0, probe);
+        int next = furthest(probe);
+        for (int l = 0; l < count; l++) {
+            landmarks[l] = next;
+            dist[l] = new int[n];
+            engine.fillDistances(next, dist[l]);
+            int best = -1;
+            next = landmarks[0];
+            for (int cell = 0; cell < n; cell++) {
+                int d = dist[l][cell];
+                int near = l == 0 ? d : Math.min(nearest[cell], d);
+                nearest[cell] = near;
+                if (near > best) {
+                    best = near;
+                    next = cell;
+                }
+            }
+        }
+        return new LandmarkIndex(grid, landmarks, dist);
+    }
+
+    /**
+     * Loads the index saved for a maze file if it matches the maze, and
+     * otherwise builds one and saves it next to the maze file as
+     * maze-file.lmk
+     *
+     * @param hMaze maze to index
+     * @param mazeFile file the maze was loaded from
+     * @param count number of landmarks to pick when building
+     * @return the index
+     * @throws IOException if the index file can't be written
+     */
+    public static LandmarkIndex loadOrBuild(HedgeMaze hMaze, String mazeFile, int count)
+            throws IOException {
+        Path indexFile = Path.of(mazeFile + ".lmk");
+        if (Files.exists(indexFile)) {
+            LandmarkIndex loaded = load(hMaze, indexFile);
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        LandmarkIndex built = build(hMaze, count);
+        built.save(indexFile);
+        return built;
+    }
+
+    /**
+     * Reads a saved index
+     *
+     * @param hMaze maze the index is for
+     * @param indexFile saved index
+     * @return the index, or null if the file is not an index of this maze
+     * @throws IOException if the file can't be read
+     */
+    public static LandmarkIndex load(HedgeMaze hMaze, Path indexFile) throws IOException {
+        GridGraph grid = hMaze.getGrid();
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            int count = header.getInt(16);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || header.getInt(8) != grid.numRows() || header.getInt(12) != grid.numCols()
+                    || header.getLong(20) != fingerprint(grid) || count < 1
+                    || channel.size() != HEADER_BYTES + 4L * count * (1L + grid.size())) {
+                return null;
+            }
+            int[] landmarks = new int[count];
+            readInts(channel, HEADER_BYTES, landmarks);
+            int[][] dist = new int[count][grid.size()];
+            for (int l = 0; l < count; l++) {
+                readInts(channel, HEADER_BYTES + 4L * count + 4L * l * grid.size(), dist[l]);
+            }
+            return new LandmarkIndex(grid, landmarks, dist);
+        }
+    }
+
+    /**
+     * Saves the index, replacing the file if it exists
+     *
+     * @param indexFile where to save
+     * @throws IOException if the file can't be written
+     */
+    public void save(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(grid.numRows()).putInt(grid.numCols())
+                    .putInt(landmarks.length).putLong(fingerprint(grid)).rewind();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            writeInts(channel, HEADER_BYTES, landmarks);
+            for (int l = 0; l < landmarks.length; l++) {
+                writeInts(channel, HEADER_BYTES + 4L * landmarks.length + 4L * l * grid.size(), dist[l]);
+            }
+        }
+    }
+
+    /**
+     * Lower bound on the number of moves between two cells
+     *
+     * @return the bound, or UNREACHABLE if some landmark reaches one cell
+     *          but not the other
+     */
+    public int lowerBound(int s, int t) {
+        int best = 0;
+        for (int[] d : dist) {
+            int ds = d[s];
+            int dt = d[t];
+            if ((ds < 0) != (dt < 0)) {
+                return UNREACHABLE;
+            }
+            if (ds >= 0) {
+                best = Math.max(best, Math.abs(ds - dt));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Upper bound on the number of moves between two cells, the shortest
+     * detour through any landmark
+     *
+     * @return the bound, or UNREACHABLE if no landmark reaches both cells
+     */
+    public int upperBound(int s, int t) {
+        int best = UNREACHABLE;
+        for (int[] d : dist) {
+            if (d[s] >= 0 && d[t] >= 0) {
+                best = Math.min(best, d[s] + d[t]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Repairs the distances of every landmark after a wall of the maze changed
+     */
+    @Override
+    public void wallChanged(HedgeMaze hMaze, int cell1, int cell2, boolean open) {
+        if (hMaze.getGrid() != this.grid) {
+            return;
+        }
+        for (int[] d : dist) {
+            DistanceRepair.repair(this.grid, d, cell1, cell2, open);
+        }
+    }
+
+    /**
+     * @return number of landmarks
+     */
+    public int getLandmarkCount() {
+        return this.landmarks.length;
+    }
+
+    /**
+     * @return cell of a landmark
+     */
+    public int getLandmark(int l) {
+        return this.landmarks[l];
+    }
+
+    /**
+     * @rit.pre 0 <= l < getLandmarkCount()
+     * @return distance from a landmark to a cell, -1 if unreachable
+     */
+    public int distance(int l, int cell) {
+        return this.dist[l][cell];
+    }
+
+    /**
+     * @return true if the index was built for exactly these walls
+     */
+    public boolean matches(GridGraph other) {
+        return other.numRows() == grid.numRows() && other.numCols() == grid.numCols()
+                && fingerprint(other) == fingerprint(grid);
+    }
+
+    /**
+     * @return the reachable cell with the largest distance
+     */
+    private static int furthest(int[] dist) {
+        int best = 0;
+        for (int cell = 1; cell < dist.length; cell++) {
+            if (dist[cell] > dist[best]) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Hashes the walls of a grid so a saved index can tell if the maze
+     * file was changed after it was built
+     */
+    static long fingerprint(GridGraph grid) {
+        long h = 0xcbf29ce484222325L;
+        for (long word : grid.words()) {
+            h = (h ^ word) * 0x100000001b3L;
+            h ^= h >>> 29;
+        }
+        return h;
+    }
+
+    /**
+     * Reads little endian ints starting at a file position, mapping the
+     * file a window at a time
+     */
+    private static void readInts(FileChannel channel, long pos, int[] dst) throws IOException {
+        for (int from = 0; from < dst.length; from += WINDOW_INTS) {
+            int len = Math.min(WINDOW_INTS, dst.length - from);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos + 4L * from, 4L * len);
+            buf.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(dst, from, len);
+        }
+    }
+
+    /**
+     * Writes little endian ints starting at a file position, mapping the
+     * file a window at a time
+     */
+    private static void writeInts(FileChannel channel, long pos, int[] src) throws IOException {
+        for (int from = 0; from < src.length; from += WINDOW_INTS) {
+            int len = Math.min(WINDOW_INTS, src.length - from);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, pos + 4L * from, 4L * len);
+            buf.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(src, from, len);
+        }
+    }
+}
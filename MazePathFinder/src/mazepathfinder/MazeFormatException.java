@@ -0,0 +1,62 @@
+package mazepathfinder;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a maze file does not follow the maze format. Carries the
+ * line and column the problem was found at, both counted from 1, or 0
+ * for binary files.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class MazeFormatException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Line of the file the problem was found on */
+    private final long line;
+
+    /** Column of the line the problem was found at */
+    private final long column;
+
+    /**
+     * Constructor for the exception
+     *
+     * @param fileName name of the maze file
+     * @param line line the problem was found on
+     * @param column column the problem was found at
+     * @param message what was wrong
+     */
+    public MazeFormatException(String fileName, long line, long column, String message) {
+        super(fileName + ":" + line + ":" + column + ": " + message);
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Constructor for problems in binary files, which have no lines
+     *
+     * @param fileName name of the maze file
+     * @param message what was wrong
+     */
+    public MazeFormatException(String fileName, String message) {
+        super(fileName + ": " + message);
+        this.line = 0;
+        this.column = 0;
+    }
+
+    /**
+     * @return line of the file the problem was found on
+     */
+    public long getLine() {
+        return this.line;
+    }
+
+    /**
+     * @return column of the line the problem was found at
+     */
+    public long getColumn() {
+        return this.column;
+    }
+}
@@ -0,0 +1,539 @@
+package mazepathfinder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generates random mazes of any size and writes them in the text format.
+ * The same size, algorithm, seed and braid fraction always give the same
+ * maze.
+ *
+ * Eller's algorithm builds the maze one row at a time and keeps nothing
+ * but the current row, so its output streams straight to the file and
+ * the size of the maze is limited only by the disk. The other algorithms
+ * need the whole maze at once; they build it in a GridGraph (two bits a
+ * cell) and then stream the text out of it row by row:
+ *
+ *   backtracker  depth first search, long winding corridors, keeps its
+ *                way back in two more bits a cell
+ *   kruskal      joins cells in a random order of walls with union-find,
+ *                four more bytes a cell
+ *   wilson       loop erased random walks, every perfect maze is equally
+ *                likely, two more bits a cell
+ *
+ * Every algorithm makes a perfect maze, one path between any two cells.
+ * A braid fraction above zero then opens a wall of that fraction of the
+ * dead ends, which puts loops into the maze.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class MazeGenerator {
+
+    /**
+     * The ways a maze can be generated
+     */
+    public enum Algorithm {
+        ELLER, BACKTRACKER, KRUSKAL, WILSON
+    }
+
+    /** Directions, each the opposite of the one two away */
+    private static final int NORTH = 0;
+    private static final int EAST = 1;
+    private static final int SOUTH = 2;
+    private static final int WEST = 3;
+
+    /** Number of rows to generate */
+    private final int rows;
+
+    /** Number of columns to generate */
+    private final int cols;
+
+    /** Algorithm to generate with */
+    private final Algorithm algorithm;
+
+    /** Seed of the random numbers */
+    private final long seed;
+
+    /** Fraction of dead ends to open up, 0 for a perfect maze */
+    private final double braid;
+
+    /**
+     * Constructor for the generator
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param algorithm algorithm to generate with
+     * @param seed seed of the random numbers
+     * @param braid fraction of dead ends to open up, from 0 to 1
+     * @throws IllegalArgumentException if the size or the braid fraction is out of range
+     */
+    public MazeGenerator(int rows, int cols, Algorithm algorithm, long seed, double braid) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("a maze needs at least one row and one column");
+        }
+        if (algorithm != Algorithm.ELLER && (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(algorithm.name().toLowerCase()
+                    + " can make at most " + Integer.MAX_VALUE + " cells, use eller for more");
+        }
+        if (!(braid >= 0 && braid <= 1)) {
+            throw new IllegalArgumentException("braid fraction must be from 0 to 1");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.algorithm = algorithm;
+        this.seed = seed;
+        this.braid = braid;
+    }
+
+    /**
+     * Generates the maze into a text maze file, replacing the file if it exists
+     *
+     * @param fileName location of the maze file
+     * @throws IOException if the file can't be written
+     */
+    public void write(String fileName) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(fileName)), 1 << 16)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Generates the maze as text
+     *
+     * @param out where the text goes, should be buffered
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        if (this.algorithm == Algorithm.ELLER) {
+            MazeTextWriter writer = new MazeTextWriter(out, this.rows, this.cols);
+            eller((r, east, south) -> writer.writeRow(east, south));
+            out.flush();
+        } else {
+            MazeTextWriter.write(generate(), out);
+        }
+    }
+
+    /**
+     * Generates the maze into a tiled maze file, replacing the file if it
+     * exists. Eller's algorithm goes straight to the file a row at a time,
+     * so it can make mazes much bigger than the heap; the others build the
+     * maze in memory first.
+     *
+     * @param fileName location of the tiled maze
+     * @param tile side of a tile in cells, see TiledMazeFormat
+     * @throws IOException if the file can't be written
+     * @throws IllegalArgumentException if the side of a tile is not allowed
+     */
+    public void writeTiled(String fileName, int tile) throws IOException {
+        if (this.algorithm == Algorithm.ELLER) {
+            try (TiledMazeWriter writer = new TiledMazeWriter(fileName, this.rows, this.cols, tile)) {
+                eller((r, east, south) -> writer.writeRow(east, south));
+            }
+        } else {
+            TiledMazeFormat.write(generate(), fileName, tile);
+        }
+    }
+
+    /**
+     * Generates the maze into memory
+     *
+     * @return the grid of the maze
+     */
+    public GridGraph generate() {
+        GridGraph grid = new GridGraph(this.rows, this.cols);
+        SplittableRandom random = new SplittableRandom(this.seed);
+        switch (this.algorithm) {
+            case ELLER:
+                try {
+                    eller((r, east, south) -> {
+                        for (int c = 0; c < this.cols; c++) {
+                            if (east[c]) {
+                                grid.openEast(grid.index(r, c));
+                            }
+                            if (south[c] && r < this.rows - 1) {
+                                grid.openSouth(grid.index(r, c));
+                            }
+                        }
+                    });
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                return grid;
+            case BACKTRACKER:
+                backtracker(grid, random);
+                break;
+            case KRUSKAL:
+                kruskal(grid, random);
+                break;
+            default:
+                wilson(grid, random);
+                break;
+        }
+        if (this.braid > 0) {
+            braid(grid, random);
+        }
+        return grid;
+    }
+
+    /**
+     * Receives the rows of a maze made by Eller's algorithm
+     */
+    private interface RowSink {
+        void row(int r, boolean[] east, boolean[] south) throws IOException;
+    }
+
+    /**
+     * Eller's algorithm. Every cell of the current row carries the label
+     * of the set of cells it is already joined to. Neighbors in different
+     * sets are joined at random, then every set gets at least one passage
+     * down, and the cells below without one start new sets. The last row
+     * joins every set that is left. Labels are renumbered each row so they
+     * stay below the number of columns.
+     */
+    private void eller(RowSink sink) throws IOException {
+        SplittableRandom random = new SplittableRandom(this.seed);
+        int[] set = new int[cols];
+        int[] parent = new int[cols];
+        int[] members = new int[cols];
+        int[] chosen = new int[cols];
+        boolean[] anyDown = new boolean[cols];
+        int[] relabel = new int[cols];
+        boolean[] north = new boolean[cols];
+        boolean[] east = new boolean[cols];
+        boolean[] south = new boolean[cols];
+        for (int c = 0; c < cols; c++) {
+            set[c] = c;
+        }
+        for (int r = 0; r < rows; r++) {
+            boolean last = r == rows - 1;
+            for (int i = 0; i < cols; i++) {
+                parent[i] = i;
+            }
+            for (int c = 0; c < cols - 1; c++) {
+                int a = find(parent, set[c]);
+                int b = find(parent, set[c + 1]);
+                east[c] = a != b && (last || random.nextBoolean());
+                if (east[c]) {
+                    parent[b] = a;
+                }
+            }
+            east[cols - 1] = false;
+            for (int c = 0; c < cols; c++) {
+                set[c] = find(parent, set[c]);
+            }
+
+            Arrays.fill(south, false);
+            if (!last) {
+                Arrays.fill(members, 0);
+                Arrays.fill(anyDown, false);
+                for (int c = 0; c < cols; c++) {
+                    int s = set[c];
+                    members[s]++;
+                    if (random.nextInt(members[s]) == 0) {
+                        chosen[s] = c;
+                    }
+                    if (random.nextBoolean()) {
+                        south[c] = true;
+                        anyDown[s] = true;
+                    }
+                }
+                for (int c = 0; c < cols; c++) {
+                    if (!anyDown[set[c]] && chosen[set[c]] == c) {
+                        south[c] = true;
+                    }
+                }
+            }
+            if (this.braid > 0) {
+                braidRow(north, east, south, last, random);
+            }
+            sink.row(r, east, south);
+
+            if (!last) {
+                Arrays.fill(relabel, -1);
+                int next = 0;
+                for (int c = 0; c < cols; c++) {
+                    if (south[c]) {
+                        if (relabel[set[c]] < 0) {
+                            relabel[set[c]] = next++;
+                        }
+                        set[c] = relabel[set[c]];
+                    }
+                }
+                for (int c = 0; c < cols; c++) {
+                    if (!south[c]) {
+                        set[c] = next++;
+                    }
+                }
+                System.arraycopy(south, 0, north, 0, cols);
+            }
+        }
+    }
+
+    /**
+     * Opens a wall of some of the dead ends of a row while Eller's
+     * algorithm still has it. The row above is already written, so only
+     * the east, west and south walls can be opened.
+     */
+    private void braidRow(boolean[] north, boolean[] east, boolean[] south, boolean last,
+                          SplittableRandom random) {
+        int[] options = new int[3];
+        for (int c = 0; c < cols; c++) {
+            boolean west = c > 0 && east[c - 1];
+            int degree = (north[c] ? 1 : 0) + (east[c] ? 1 : 0) + (west ? 1 : 0) + (south[c] ? 1 : 0);
+            if (degree != 1 || random.nextDouble() >= this.braid) {
+                continue;
+            }
+            int count = 0;
+            if (c > 0 && !west) {
+                options[count++] = WEST;
+            }
+            if (c < cols - 1 && !east[c]) {
+                options[count++] = EAST;
+            }
+            if (!last && !south[c]) {
+                options[count++] = SOUTH;
+            }
+            if (count == 0) {
+                continue;
+            }
+            int dir = options[random.nextInt(count)];
+            if (dir == WEST) {
+                east[c - 1] = true;
+            } else if (dir == EAST) {
+                east[c] = true;
+            } else {
+                south[c] = true;
+            }
+        }
+    }
+
+    /**
+     * Recursive backtracker without a stack: each cell remembers the
+     * direction back to the cell it was carved from, and the walk follows
+     * those directions back when it gets stuck.
+     */
+    private void backtracker(GridGraph grid, SplittableRandom random) {
+        int start = random.nextInt(grid.size());
+        long[] back = new long[GridGraph.wordsFor(rows, cols)];
+        int[] options = new int[4];
+        int cell = start;
+        while (true) {
+            int count = 0;
+            for (int dir = NORTH; dir <= WEST; dir++) {
+                if (canStep(cell, dir)) {
+                    int next = step(cell, dir);
+                    if (next != start && grid.degree(next) == 0) {
+                        options[count++] = dir;
+                    }
+                }
+            }
+            if (count > 0) {
+                int dir = options[random.nextInt(count)];
+                open(grid, cell, dir);
+                cell = step(cell, dir);
+                setDirection(back, cell, dir ^ 2);
+            } else if (cell == start) {
+                return;
+            } else {
+                cell = step(cell, direction(back, cell));
+            }
+        }
+    }
+
+    /**
+     * Randomized Kruskal. The walls are visited in a random order without
+     * listing them: a Feistel network shuffles the numbers of the walls,
+     * wall 2i being the east wall of cell i and 2i + 1 its south wall.
+     */
+    private void kruskal(GridGraph grid, SplittableRandom random) {
+        int n = grid.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        long walls = 2L * n;
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(walls - 1));
+        bits += bits & 1;
+        long[] keys = { random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong() };
+        int joined = 0;
+        for (long i = 0; i < walls && joined < n - 1; i++) {
+            long wall = i;
+            do {
+                wall = feistel(wall, bits, keys);
+            } while (wall >= walls);
+            int cell = (int) (wall >>> 1);
+            int dir = (wall & 1) == 0 ? EAST : SOUTH;
+            if (!canStep(cell, dir)) {
+                continue;
+            }
+            int a = find(parent, cell);
+            int b = find(parent, step(cell, dir));
+            if (a != b) {
+                parent[a] = b;
+                open(grid, cell, dir);
+                joined++;
+            }
+        }
+    }
+
+    /**
+     * Wilson's algorithm. From every cell not yet in the maze a random
+     * walk runs until it hits the maze; each cell remembers only the
+     * direction it was last left in, which erases the loops, and the
+     * walk is then carved by following those directions.
+     */
+    private void wilson(GridGraph grid, SplittableRandom random) {
+        int n = grid.size();
+        int root = random.nextInt(n);
+        long[] walk = new long[GridGraph.wordsFor(rows, cols)];
+        for (int first = 0; first < n; first++) {
+            if (first == root || grid.degree(first) > 0) {
+                continue;
+            }
+            int cell = first;
+            while (cell != root && grid.degree(cell) == 0) {
+                int dir;
+                do {
+                    dir = random.nextInt(4);
+                } while (!canStep(cell, dir));
+                setDirection(walk, cell, dir);
+                cell = step(cell, dir);
+            }
+            cell = first;
+            while (true) {
+                int dir = direction(walk, cell);
+                int next = step(cell, dir);
+                boolean reached = next == root || grid.degree(next) > 0;
+                open(grid, cell, dir);
+                if (reached) {
+                    break;
+                }
+                cell = next;
+            }
+        }
+    }
+
+    /**
+     * Opens a random closed wall of some of the dead ends of a grid
+     */
+    private void braid(GridGraph grid, SplittableRandom random) {
+        int[] options = new int[4];
+        for (int cell = 0; cell < grid.size(); cell++) {
+            if (grid.degree(cell) != 1 || random.nextDouble() >= this.braid) {
+                continue;
+            }
+            int count = 0;
+            for (int dir = NORTH; dir <= WEST; dir++) {
+                if (canStep(cell, dir) && !grid.connected(cell, step(cell, dir))) {
+                    options[count++] = dir;
+                }
+            }
+            if (count > 0) {
+                open(grid, cell, options[random.nextInt(count)]);
+            }
+        }
+    }
+
+    /**
+     * @return true if moving from the cell in the direction stays on the grid
+     */
+    private boolean canStep(int cell, int dir) {
+        switch (dir) {
+            case NORTH:
+                return cell >= cols;
+            case EAST:
+                return cell % cols != cols - 1;
+            case SOUTH:
+                return cell < (rows - 1) * cols;
+            default:
+                return cell % cols != 0;
+        }
+    }
+
+    /**
+     * @return the cell next to a cell in a direction
+     */
+    private int step(int cell, int dir) {
+        switch (dir) {
+            case NORTH:
+                return cell - cols;
+            case EAST:
+                return cell + 1;
+            case SOUTH:
+                return cell + cols;
+            default:
+                return cell - 1;
+        }
+    }
+
+    /**
+     * Opens the wall on one side of a cell
+     */
+    private void open(GridGraph grid, int cell, int dir) {
+        switch (dir) {
+            case NORTH:
+                grid.openSouth(cell - cols);
+                break;
+            case EAST:
+                grid.openEast(cell);
+                break;
+            case SOUTH:
+                grid.openSouth(cell);
+                break;
+            default:
+                grid.openEast(cell - 1);
+                break;
+        }
+    }
+
+    /**
+     * @return the direction stored for a cell, two bits a cell
+     */
+    private static int direction(long[] dirs, int cell) {
+        return (int) (dirs[cell >>> 5] >>> ((cell & 31) << 1)) & 3;
+    }
+
+    /**
+     * Stores a direction for a cell, two bits a cell
+     */
+    private static void setDirection(long[] dirs, int cell, int dir) {
+        int shift = (cell & 31) << 1;
+        dirs[cell >>> 5] = (dirs[cell >>> 5] & ~(3L << shift)) | ((long) dir << shift);
+    }
+
+    /**
+     * @return the root of a set, halving the path to it on the way
+     */
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Four round Feistel network, a bijection on numbers of the given
+     * even number of bits
+     */
+    private static long feistel(long x, int bits, long[] keys) {
+        int half = bits >>> 1;
+        long mask = (1L << half) - 1;
+        long left = x >>> half;
+        long right = x & mask;
+        for (long key : keys) {
+            long mixed = (right ^ key) * 0x9e3779b97f4a7c15L;
+            mixed ^= mixed >>> 29;
+            long next = left ^ (mixed & mask);
+            left = right;
+            right = next;
+        }
+        return (left << half) | right;
+    }
+}
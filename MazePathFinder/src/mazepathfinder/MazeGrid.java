@@ -0,0 +1,153 @@
+package mazepathfinder;
+
+/**
+ * Read only view of the walls of a maze laid on a 2-D grid, addressed by
+ * cell index (row * columns + col) the same way GridGraph addresses it.
+ * GridGraph keeps the whole maze on the heap; TiledGrid pages it in from
+ * a file a tile at a time. Searches written against this interface, like
+ * TiledSearch, run on either one.
+ *
+ * Only numRows, numCols and bits have to be implemented, everything else
+ * is worked out from them. GridGraph overrides the rest with versions
+ * that read its fields directly.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public interface MazeGrid {
+
+    /**
+     * @return integer representing the number of rows in the grid
+     */
+    int numRows();
+
+    /**
+     * @return integer representing the number of columns in the grid
+     */
+    int numCols();
+
+    /**
+     * @return the wall bits (GridGraph.EAST and GridGraph.SOUTH) stored for the cell
+     */
+    int bits(int cell);
+
+    /**
+     * @return total number of cells in the grid
+     */
+    default int size() {
+        return numRows() * numCols();
+    }
+
+    /**
+     * Checks if the row and column lie inside of the grid
+     *
+     * @return true if the cell exists, false otherwise
+     */
+    default boolean contains(int r, int c) {
+        return r >= 0 && r < numRows() && c >= 0 && c < numCols();
+    }
+
+    /**
+     * @rit.pre this.contains( r, c )
+     * @return the cell index of the row and column
+     */
+    default int index(int r, int c) {
+        return r * numCols() + c;
+    }
+
+    /**
+     * @return the row of the cell index
+     */
+    default int rowOf(int cell) {
+        return cell / numCols();
+    }
+
+    /**
+     * @return the column of the cell index
+     */
+    default int colOf(int cell) {
+        return cell % numCols();
+    }
+
+    /**
+     * @return true if the passage to the east neighbor is open
+     */
+    default boolean hasEast(int cell) {
+        return (bits(cell) & GridGraph.EAST) != 0;
+    }
+
+    /**
+     * @return true if the passage to the south neighbor is open
+     */
+    default boolean hasSouth(int cell) {
+        return (bits(cell) & GridGraph.SOUTH) != 0;
+    }
+
+    /**
+     * @return true if the passage to the west neighbor is open
+     */
+    default boolean hasWest(int cell) {
+        return cell % numCols() != 0 && hasEast(cell - 1);
+    }
+
+    /**
+     * @return true if the passage to the north neighbor is open
+     */
+    default boolean hasNorth(int cell) {
+        return cell >= numCols() && hasSouth(cell - numCols());
+    }
+
+    /**
+     * Checks if two cells are adjacent and the wall between them is open.
+     *
+     * @rit.pre both cells are inside of the grid
+     * @return true if you can walk directly from one cell to the other
+     */
+    default boolean connected(int a, int b) {
+        if (a > b) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        if (b == a + numCols()) {
+            return hasSouth(a);
+        }
+        return b == a + 1 && b % numCols() != 0 && hasEast(a);
+    }
+
+    /**
+     * Writes the open neighbors of a cell into the array passed in, in
+     * north, west, east, south order.
+     *
+     * @param cell the cell to look around
+     * @param out array with room for at least 4 entries
+     * @return the number of neighbors that were written
+     */
+    default int neighbors(int cell, int[] out) {
+        int cols = numCols();
+        int n = 0;
+        if (hasNorth(cell)) {
+            out[n++] = cell - cols;
+        }
+        if (hasWest(cell)) {
+            out[n++] = cell - 1;
+        }
+        int here = bits(cell);
+        if ((here & GridGraph.EAST) != 0) {
+            out[n++] = cell + 1;
+        }
+        if ((here & GridGraph.SOUTH) != 0) {
+            out[n++] = cell + cols;
+        }
+        return n;
+    }
+
+    /**
+     * @return number of open passages leaving the cell
+     */
+    default int degree(int cell) {
+        int here = bits(cell);
+        return (here & GridGraph.EAST) + (here >>> 1)
+                + (hasWest(cell) ? 1 : 0) + (hasNorth(cell) ? 1 : 0);
+    }
+}
@@ -0,0 +1,253 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a maze text file into a GridGraph in a single pass.
+ * The file is memory mapped a window at a time and scanned byte by byte,
+ * so only the packed grid ends up on the heap no matter how big the file
+ * is. The format is a line holding the number of rows and columns, then
+ * for every row a line of cells separated by walls
+ * ("O . O | O", where . is open and | is a wall) and, for every row but
+ * the last, a line of the walls below each cell ("- . -", where . is open
+ * and - is a wall). Symbols are separated by whitespace and blank lines
+ * are ignored.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class MazeLoader {
+
+    /** Symbol for a cell */
+    public static final byte CELL = 'O';
+
+    /** Symbol for no barrier between two cells */
+    public static final byte NO_WALL = '.';
+
+    /** Symbol for a barrier between horizontal neighbors */
+    public static final byte SIDE_WALL = '|';
+
+    /** Symbol for a barrier between vertical neighbors */
+    public static final byte FLOOR_WALL = '-';
+
+    /** Number of bytes mapped at a time */
+    private static final long WINDOW = 1L << 28;
+
+    /** Name of the file, used in error messages */
+    private final String fileName;
+
+    /** Grid being filled in, created once the header is read */
+    private GridGraph grid;
+
+    /** Number of rows from the header */
+    private int rows;
+
+    /** Number of columns from the header */
+    private int cols;
+
+    /** Row the current line belongs to */
+    private int row;
+
+    /** True while reading a line of walls below a row of cells */
+    private boolean floorLine;
+
+    /** Number of symbols read on the current line */
+    private int symbols;
+
+    /** True if the last byte was whitespace, or the line just started */
+    private boolean afterSpace = true;
+
+    /** Line being read, counted from 1 */
+    private long line = 1;
+
+    /** Column of the byte being read, counted from 1 */
+    private long column;
+
+    /** Digits of the header line, which is short and read into a buffer */
+    private final StringBuilder header = new StringBuilder();
+
+    /**
+     * @param fileName name of the file, used in error messages
+     */
+    private MazeLoader(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Reads a maze file
+     *
+     * @param fileName location of maze specification
+     * @return the grid of the maze
+     * @throws MazeFormatException if the file does not follow the maze format
+     * @throws IOException if the file can't be read for any other reason
+     */
+    public static GridGraph load(String fileName) throws IOException {
+        MazeLoader loader = new MazeLoader(fileName);
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long pos = 0; pos < size; pos += WINDOW) {
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos,
+                        Math.min(WINDOW, size - pos));
+                loader.scan(buf);
+            }
+        }
+        return loader.finish();
+    }
+
+    /**
+     * Feeds every byte of a window through the parser
+     *
+     * @param buf mapped window of the file
+     * @throws MazeFormatException if the bytes break the format
+     */
+    private void scan(MappedByteBuffer buf) throws MazeFormatException {
+        int limit = buf.limit();
+        for (int i = 0; i < limit; i++) {
+            byte b = buf.get(i);
+            if (b == '\n') {
+                endLine();
+                this.line++;
+                this.column = 0;
+                this.afterSpace = true;
+                continue;
+            }
+            this.column++;
+            if (b == ' ' || b == '\t' || b == '\r') {
+                this.afterSpace = true;
+            } else if (this.grid == null) {
+                headerByte(b);
+            } else {
+                if (!this.afterSpace) {
+                    throw error("symbols must be separated by whitespace");
+                }
+                this.afterSpace = false;
+                symbol(b);
+            }
+        }
+    }
+
+    /**
+     * Collects a byte of the header line
+     */
+    private void headerByte(byte b) throws MazeFormatException {
+        if ((b < '0' || b > '9') && b != '-') {
+            throw error("expected the number of rows and columns");
+        }
+        if (this.afterSpace && this.header.length() > 0) {
+            this.header.append(' ');
+        }
+        this.afterSpace = false;
+        this.header.append((char) b);
+    }
+
+    /**
+     * Handles one symbol of a cell line or a wall line
+     */
+    private void symbol(byte b) throws MazeFormatException {
+        if (this.row >= this.rows) {
+            throw error("more lines than the " + this.rows + " rows in the header");
+        }
+        int pos = this.symbols++;
+        if (!this.floorLine) {
+            if (pos >= 2 * this.cols - 1) {
+                throw error("row " + this.row + " has more than " + this.cols + " cells");
+            }
+            if ((pos & 1) == 0) {
+                if (b != CELL) {
+                    throw error("expected '" + (char) CELL + "' but found '" + (char) b + "'");
+                }
+            } else if (b == NO_WALL) {
+                this.grid.openEast(this.grid.index(this.row, pos >> 1));
+            } else if (b != SIDE_WALL) {
+                throw error("expected '" + (char) NO_WALL + "' or '" + (char) SIDE_WALL
+                        + "' but found '" + (char) b + "'");
+            }
+        } else {
+            if (pos >= this.cols) {
+                throw error("walls below row " + this.row + " have more than " + this.cols + " entries");
+            }
+            if (b == NO_WALL) {
+                this.grid.openSouth(this.grid.index(this.row, pos));
+            } else if (b != FLOOR_WALL) {
+                throw error("expected '" + (char) NO_WALL + "' or '" + (char) FLOOR_WALL
+                        + "' but found '" + (char) b + "'");
+            }
+        }
+    }
+
+    /**
+     * Checks the line that just ended was complete and moves on to the
+     * next kind of line
+     */
+    private void endLine() throws MazeFormatException {
+        if (this.grid == null) {
+            if (this.header.length() > 0) {
+                startGrid();
+            }
+            return;
+        }
+        if (this.symbols == 0) {
+            return;
+        }
+        int expected = this.floorLine ? this.cols : 2 * this.cols - 1;
+        if (this.symbols != expected) {
+            throw error("expected " + expected + " symbols on the line but found " + this.symbols);
+        }
+        this.symbols = 0;
+        if (this.floorLine || this.row == this.rows - 1) {
+            this.floorLine = false;
+            this.row++;
+        } else {
+            this.floorLine = true;
+        }
+    }
+
+    /**
+     * Reads the size from the header line and creates the grid
+     */
+    private void startGrid() throws MazeFormatException {
+        String[] parts = this.header.toString().split(" ");
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException();
+            }
+            this.rows = Integer.parseInt(parts[0]);
+            this.cols = Integer.parseInt(parts[1]);
+            if (this.rows < 1 || this.cols < 1) {
+                throw new NumberFormatException();
+            }
+            this.grid = new GridGraph(this.rows, this.cols);
+        } catch (NumberFormatException e) {
+            throw error("expected the number of rows and columns but found '" + this.header + "'");
+        } catch (IllegalArgumentException e) {
+            throw error(e.getMessage());
+        }
+    }
+
+    /**
+     * Ends the last line of the file and checks every row was read
+     *
+     * @return the filled in grid
+     */
+    private GridGraph finish() throws MazeFormatException {
+        endLine();
+        if (this.grid == null) {
+            throw error("missing the number of rows and columns");
+        }
+        if (this.row < this.rows) {
+            throw error("file ended after " + this.row + " of " + this.rows + " rows");
+        }
+        return this.grid;
+    }
+
+    /**
+     * @return an exception pointing at the current line and column
+     */
+    private MazeFormatException error(String message) {
+        return new MazeFormatException(this.fileName, this.line, this.column, message);
+    }
+}
@@ -0,0 +1,624 @@
+package mazepathfinder;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+
+/**
+ * MazeMain class starts the entire program. The maze file can be in the
+ * text format or the binary format, and --convert turns a maze file into
+ * the binary format. --generate writes a new random maze. With --batch
+ * the queries are read from a file (or standard input when the file is -)
+ * and answered without prompting, --render draws the maze to a text or
+ * image file, and --distances writes the distance from one cell to every
+ * cell, and --matrix the distance between every pair of a set of
+ * points. --metrics prints what the searches have cost every few seconds;
+ * the same numbers can be read through JMX. --tile makes --convert and
+ * --generate write a tiled maze, which --search can search without
+ * loading it into memory. --serve keeps mazes loaded and answers queries
+ * from other programs over a socket.
+ *
+ * @date 07/11/2022
+ * @author Andrew Photinakis
+ */
+public class MazeMain {
+
+    public static void main( String[] args ) throws IOException, Exception {
+        if ( ( args.length == 3 || args.length == 5 ) && args[0].equals( "--convert" ) ) {
+            try {
+                if ( args.length == 5 ) {
+                    TiledMazeFormat.convert( args[1], args[2], tileSize( args[3], args[4] ) );
+                }
+                else {
+                    BinaryMazeFormat.convert( args[1], args[2] );
+                }
+            }
+            catch( IOException e ) {
+                System.out.println( e.getMessage() );
+                System.exit( 1 );
+            }
+            return;
+        }
+        if ( args.length >= 3 && args[0].equals( "--serve" ) ) {
+            serve( args );
+            return;
+        }
+        if ( args.length >= 4 && args[0].equals( "--generate" ) ) {
+            generate( args );
+            return;
+        }
+        if ( args.length >= 3 && args[1].equals( "--render" ) ) {
+            render( args );
+            return;
+        }
+        if ( args.length >= 5 && args[1].equals( "--distances" ) ) {
+            exportDistances( args );
+            return;
+        }
+        if ( args.length >= 6 && args[1].equals( "--search" ) ) {
+            searchTiled( args );
+            return;
+        }
+        if ( args.length >= 3 && args[1].equals( "--batch" ) ) {
+            runBatch( args );
+            return;
+        }
+        if ( args.length >= 3 && args[1].equals( "--matrix" ) ) {
+            writeMatrix( args );
+            return;
+        }
+        if ( args.length != 1 && !( args.length == 3 && args[1].equals( "--metrics" ) ) ) {
+            usage();
+        }
+        UserControl userCtrl = null;
+        try {
+            userCtrl = new UserControl(args[0]);
+        }
+        catch( MazeFormatException e ) {
+            System.out.println( e.getMessage() );
+            System.exit( 1 );
+        }
+        catch( IOException e ) {
+            System.out.println( "File " + args[0] + " could not be read." );
+            System.exit( 1 );
+        }
+
+        publishMetrics( userCtrl.getMetrics(), "interactive", args.length == 3 ? args[2] : null );
+        userCtrl.doUserInput();
+    }
+
+    /**
+     * Registers search metrics with JMX and, if asked to, prints them to
+     * standard error every few seconds until the program ends
+     *
+     * @param metrics metrics to publish
+     * @param name name the metrics are registered under
+     * @param seconds seconds between printouts, null for no printouts
+     */
+    private static void publishMetrics( SearchMetrics metrics, String name, String seconds ) {
+        try {
+            metrics.register( name );
+        }
+        catch( JMException e ) {
+            System.err.println( "Metrics are not available through JMX: " + e.getMessage() );
+        }
+        if ( seconds == null ) {
+            return;
+        }
+        long period = 0;
+        try {
+            period = Long.parseLong( seconds );
+        }
+        catch( NumberFormatException e ) {
+            usage();
+        }
+        if ( period <= 0 ) {
+            usage();
+        }
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor( task -> {
+            Thread thread = new Thread( task, "metrics" );
+            thread.setDaemon( true );
+            return thread;
+        } );
+        dumper.scheduleAtFixedRate( () -> System.err.println( metrics.getSummary() ), period, period,
+                TimeUnit.SECONDS );
+    }
+
+    /**
+     * Runs the batch mode:
+     * maze-file --batch queries-file [--paths|--runs] [--out file] [--threads n] [--metrics seconds]
+     * --runs writes each path as runs of moves like "R12 D3 L7".
+     *
+     * @param args command line arguments
+     * @throws IOException if the query or output file can't be used
+     */
+    private static void runBatch( String[] args ) throws IOException {
+        boolean paths = false;
+        boolean runs = false;
+        String outFile = null;
+        int threads = 1;
+        String metricsPeriod = null;
+        for ( int i = 3; i < args.length; i++ ) {
+            if ( args[i].equals( "--paths" ) ) {
+                paths = true;
+            }
+            else if ( args[i].equals( "--runs" ) ) {
+                paths = true;
+                runs = true;
+            }
+            else if ( args[i].equals( "--out" ) && i + 1 < args.length ) {
+                outFile = args[++i];
+            }
+            else if ( args[i].equals( "--threads" ) && i + 1 < args.length ) {
+                threads = threadCount( args[++i] );
+            }
+            else if ( args[i].equals( "--metrics" ) && i + 1 < args.length ) {
+                metricsPeriod = args[++i];
+            }
+            else {
+                usage();
+            }
+        }
+        HedgeMaze maze = loadMaze( args[0] );
+        BatchQueryRunner runner = new BatchQueryRunner( maze, paths );
+        runner.setRuns( runs );
+        SearchMetrics metrics = null;
+        if ( metricsPeriod != null ) {
+            metrics = new SearchMetrics();
+            runner.setMetrics( metrics );
+            publishMetrics( metrics, "batch", metricsPeriod );
+        }
+        try ( BufferedReader in = args[2].equals( "-" )
+                ? new BufferedReader( new InputStreamReader( System.in ) )
+                : new BufferedReader( new FileReader( args[2] ) ) ) {
+            runner.readQueries( in );
+        }
+        long begin = System.nanoTime();
+        Writer out = outFile == null
+                ? new BufferedWriter( new OutputStreamWriter( System.out ), 1 << 16 )
+                : new BufferedWriter( new FileWriter( outFile ), 1 << 16 );
+        try {
+            runner.run( out, threads );
+        }
+        finally {
+            if ( outFile != null ) {
+                out.close();
+            }
+        }
+        long nanos = System.nanoTime() - begin;
+        System.err.printf( "%d queries from %d start cells answered in %d ms on %d thread(s), %.0f queries/s%n",
+                runner.getQueryCount(), runner.getSourceCount(), nanos / 1_000_000, threads,
+                nanos == 0 ? 0.0 : runner.getQueryCount() * 1e9 / nanos );
+        if ( metrics != null ) {
+            System.err.println( metrics.getSummary() );
+        }
+    }
+
+    /**
+     * Writes the distance between every pair of a set of points:
+     * maze-file --matrix points-file|- [--out file] [--threads n]
+     *
+     * @param args command line arguments
+     * @throws IOException if the points or output file can't be used
+     */
+    private static void writeMatrix( String[] args ) throws IOException {
+        String outFile = null;
+        int threads = 1;
+        for ( int i = 3; i < args.length; i++ ) {
+            if ( args[i].equals( "--out" ) && i + 1 < args.length ) {
+                outFile = args[++i];
+            }
+            else if ( args[i].equals( "--threads" ) && i + 1 < args.length ) {
+                threads = threadCount( args[++i] );
+            }
+            else {
+                usage();
+            }
+        }
+        HedgeMaze maze = loadMaze( args[0] );
+        List<Coordinates> points;
+        try ( BufferedReader in = args[2].equals( "-" )
+                ? new BufferedReader( new InputStreamReader( System.in ) )
+                : new BufferedReader( new FileReader( args[2] ) ) ) {
+            points = DistanceMatrix.readPoints( in, maze );
+        }
+        DistanceMatrix matrix = new DistanceMatrix( maze, points, threads );
+        Writer out = outFile == null
+                ? new BufferedWriter( new OutputStreamWriter( System.out ), 1 << 16 )
+                : new BufferedWriter( new FileWriter( outFile ), 1 << 16 );
+        try {
+            matrix.writeText( out );
+        }
+        finally {
+            if ( outFile != null ) {
+                out.close();
+            }
+        }
+        System.err.printf( "%d x %d distances from %d searches in %d ms on %d thread(s)%n",
+                matrix.size(), matrix.size(), Math.max( 0, matrix.size() - 1 ), matrix.getNanos() / 1_000_000,
+                threads );
+    }
+
+    /**
+     * Runs the query server until the program is stopped:
+     * --serve port|socket-path maze-file [maze-file ...] [--threads n] [--metrics seconds]
+     *
+     * @param args command line arguments
+     * @throws IOException if the socket fails
+     */
+    private static void serve( String[] args ) throws IOException {
+        List<String> files = new ArrayList<>();
+        int threads = Runtime.getRuntime().availableProcessors();
+        String metricsPeriod = null;
+        for ( int i = 2; i < args.length; i++ ) {
+            if ( args[i].equals( "--threads" ) && i + 1 < args.length ) {
+                threads = threadCount( args[++i] );
+            }
+            else if ( args[i].equals( "--metrics" ) && i + 1 < args.length ) {
+                metricsPeriod = args[++i];
+            }
+            else {
+                files.add( args[i] );
+            }
+        }
+        if ( files.isEmpty() ) {
+            usage();
+        }
+        MazeServer server = null;
+        try {
+            server = new MazeServer( args[1], files, threads );
+        }
+        catch( MazeFormatException | IllegalArgumentException e ) {
+            System.out.println( e.getMessage() );
+            System.exit( 1 );
+        }
+        catch( IOException e ) {
+            System.out.println( "Could not start the server: " + e );
+            System.exit( 1 );
+        }
+        publishMetrics( server.getMetrics(), "server", metricsPeriod );
+        MazeServer running = server;
+        Thread main = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook( new Thread( () -> {
+            running.close();
+            try {
+                main.join( 1000 );
+            }
+            catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        } ) );
+        System.err.println( "Serving " + files.size() + " maze(s) on " + server.getAddress() );
+        server.run();
+    }
+
+    /**
+     * Runs the generator:
+     * --generate rows cols maze-file [--algorithm name] [--seed n] [--braid fraction] [--tile n]
+     *
+     * @param args command line arguments
+     * @throws IOException if the maze file can't be written
+     */
+    private static void generate( String[] args ) throws IOException {
+        MazeGenerator.Algorithm algorithm = MazeGenerator.Algorithm.ELLER;
+        long seed = System.nanoTime();
+        double braid = 0;
+        int tile = 0;
+        MazeGenerator generator = null;
+        try {
+            for ( int i = 4; i < args.length; i++ ) {
+                if ( args[i].equals( "--algorithm" ) && i + 1 < args.length ) {
+                    algorithm = MazeGenerator.Algorithm.valueOf( args[++i].toUpperCase() );
+                }
+                else if ( args[i].equals( "--seed" ) && i + 1 < args.length ) {
+                    seed = Long.parseLong( args[++i] );
+                }
+                else if ( args[i].equals( "--braid" ) && i + 1 < args.length ) {
+                    braid = Double.parseDouble( args[++i] );
+                }
+                else if ( args[i].equals( "--tile" ) && i + 1 < args.length ) {
+                    tile = tileSize( args[i], args[++i] );
+                }
+                else {
+                    usage();
+                }
+            }
+            generator = new MazeGenerator( Integer.parseInt( args[1] ), Integer.parseInt( args[2] ),
+                    algorithm, seed, braid );
+        }
+        catch( IllegalArgumentException e ) {
+            System.out.println( e.getMessage() );
+            usage();
+        }
+        long begin = System.nanoTime();
+        if ( tile > 0 ) {
+            generator.writeTiled( args[3], tile );
+        }
+        else {
+            generator.write( args[3] );
+        }
+        System.err.printf( "%s x %s maze written to %s by %s with seed %d in %d ms%n", args[1], args[2],
+                args[3], algorithm.name().toLowerCase(), seed, ( System.nanoTime() - begin ) / 1_000_000 );
+    }
+
+    /**
+     * Searches a tiled maze without loading it into memory:
+     * tiled-file --search r1 c1 r2 c2 [--astar] [--runs] [--memory megabytes]
+     * With --runs the path itself is printed first, as runs like "R12 D3 L7".
+     * Half of the memory goes to caching tiles and half to the search.
+     *
+     * @param args command line arguments
+     * @throws IOException if the maze file can't be read
+     */
+    private static void searchTiled( String[] args ) throws IOException {
+        boolean astar = false;
+        boolean runs = false;
+        long memory = 256L << 20;
+        int[] ends = new int[4];
+        try {
+            for ( int k = 0; k < 4; k++ ) {
+                ends[k] = Integer.parseInt( args[2 + k] );
+            }
+            for ( int i = 6; i < args.length; i++ ) {
+                if ( args[i].equals( "--astar" ) ) {
+                    astar = true;
+                }
+                else if ( args[i].equals( "--runs" ) ) {
+                    runs = true;
+                }
+                else if ( args[i].equals( "--memory" ) && i + 1 < args.length ) {
+                    memory = Long.parseLong( args[++i] ) << 20;
+                }
+                else {
+                    usage();
+                }
+            }
+        }
+        catch( NumberFormatException e ) {
+            usage();
+        }
+        if ( !TiledMazeFormat.isTiled( args[0] ) ) {
+            System.out.println( args[0] + " is not a tiled maze, write one with --convert or --generate and --tile." );
+            System.exit( 1 );
+        }
+        try ( TiledGrid grid = new TiledGrid( args[0], memory / 2 ) ) {
+            if ( !grid.contains( ends[0], ends[1] ) || !grid.contains( ends[2], ends[3] ) ) {
+                System.out.println( "The path does not start and end at valid cell locations." );
+                System.exit( 1 );
+            }
+            TiledSearch search = new TiledSearch( grid, memory / 2 );
+            int start = grid.index( ends[0], ends[1] );
+            int finish = grid.index( ends[2], ends[3] );
+            long begin = System.nanoTime();
+            long moves;
+            try {
+                if ( runs ) {
+                    OutputStream out = new BufferedOutputStream( System.out, 1 << 16 );
+                    moves = search.writeRuns( start, finish, astar, out );
+                    if ( moves >= 0 ) {
+                        out.write( System.lineSeparator().getBytes( StandardCharsets.US_ASCII ) );
+                    }
+                    out.flush();
+                }
+                else {
+                    moves = ( astar ? search.astar( start, finish ) : search.bfs( start, finish ) ).length - 1;
+                }
+            }
+            catch( IllegalStateException e ) {
+                System.out.println( "The search ran out of memory: " + e.getMessage() );
+                System.exit( 1 );
+                return;
+            }
+            long nanos = System.nanoTime() - begin;
+            if ( moves < 0 ) {
+                System.out.println( "No path was found." );
+            }
+            else {
+                System.out.println( "The path from " + new Coordinates( ends[0], ends[1] ) + " to "
+                        + new Coordinates( ends[2], ends[3] ) + " is " + moves + " moves long." );
+            }
+            System.err.printf( "%d nodes expanded by %s in %d ms, peak frontier %d, %d KB of search state%n",
+                    search.getExpanded(), astar ? "astar" : "forward", nanos / 1_000_000,
+                    search.getPeakFrontier(), search.getMemoryUsed() >> 10 );
+            System.err.println( grid );
+        }
+        catch( MazeFormatException e ) {
+            System.out.println( e.getMessage() );
+            System.exit( 1 );
+        }
+    }
+
+    /**
+     * Reads the side of a tile from the command line, exiting with the
+     * usage if it is not allowed
+     *
+     * @param option option the side was given with
+     * @param value side of a tile in cells
+     * @return the side of a tile
+     */
+    private static int tileSize( String option, String value ) {
+        if ( option.equals( "--tile" ) ) {
+            try {
+                int tile = Integer.parseInt( value );
+                if ( TiledMazeFormat.isValidTile( tile ) ) {
+                    return tile;
+                }
+            }
+            catch( NumberFormatException e ) {
+                // falls through to the usage
+            }
+        }
+        usage();
+        return 0;
+    }
+
+    /**
+     * Writes the distance from one cell to every cell of a maze:
+     * maze-file --distances r c out-file [--binary]
+     *
+     * @param args command line arguments
+     * @throws IOException if the output file can't be written
+     */
+    private static void exportDistances( String[] args ) throws IOException {
+        boolean binary = args.length == 6 && args[5].equals( "--binary" );
+        if ( args.length > 6 || ( args.length == 6 && !binary ) ) {
+            usage();
+        }
+        HedgeMaze maze = loadMaze( args[0] );
+        Coordinates source = null;
+        try {
+            source = new Coordinates( Integer.parseInt( args[2] ), Integer.parseInt( args[3] ) );
+        }
+        catch( NumberFormatException e ) {
+            usage();
+        }
+        if ( !maze.contains( source.row(), source.col() ) ) {
+            System.out.println( source.row() + "," + source.col() + " is not a valid cell location." );
+            System.exit( 1 );
+        }
+        DistanceField field = new DistanceField( maze, source );
+        if ( binary ) {
+            try ( OutputStream out = new FileOutputStream( args[4] ) ) {
+                field.writeBinary( out );
+            }
+        }
+        else {
+            try ( Writer out = new BufferedWriter( new FileWriter( args[4] ), 1 << 16 ) ) {
+                field.writeText( out );
+            }
+        }
+        System.err.printf( "%d of %d cells reachable from %s, furthest is %d moves away%n",
+                field.getReachableCount(), maze.getGrid().size(), source, field.getMaxDistance() );
+    }
+
+    /**
+     * Draws a maze to a file, an image if it ends in .png or .ppm:
+     * maze-file --render out-file [--cell pixels] [--path r1 c1 r2 c2]
+     *
+     * @param args command line arguments
+     * @throws IOException if the output file can't be written
+     */
+    private static void render( String[] args ) throws IOException {
+        int cellSize = 4;
+        int[] ends = null;
+        try {
+            for ( int i = 3; i < args.length; i++ ) {
+                if ( args[i].equals( "--cell" ) && i + 1 < args.length ) {
+                    cellSize = Integer.parseInt( args[++i] );
+                }
+                else if ( args[i].equals( "--path" ) && i + 4 < args.length ) {
+                    ends = new int[4];
+                    for ( int k = 0; k < 4; k++ ) {
+                        ends[k] = Integer.parseInt( args[++i] );
+                    }
+                }
+                else {
+                    usage();
+                }
+            }
+        }
+        catch( NumberFormatException e ) {
+            usage();
+        }
+        HedgeMaze maze = loadMaze( args[0] );
+        Collection<Coordinates> path = null;
+        if ( ends != null ) {
+            if ( !maze.contains( ends[0], ends[1] ) || !maze.contains( ends[2], ends[3] ) ) {
+                System.out.println( "The path does not start and end at valid cell locations." );
+                System.exit( 1 );
+            }
+            path = new BreadthFirstSearch( maze, new Coordinates( ends[0], ends[1] ),
+                    new Coordinates( ends[2], ends[3] ) ).findPath();
+            if ( path.isEmpty() ) {
+                System.out.println( "No path was found." );
+            }
+        }
+        try {
+            new MazeRenderer( maze ).write( args[2], path, cellSize );
+        }
+        catch( IllegalArgumentException e ) {
+            System.out.println( e.getMessage() );
+            System.exit( 1 );
+        }
+    }
+
+    /**
+     * Loads a maze, exiting with a message if it can't be read
+     *
+     * @param fileName maze file
+     * @return the maze
+     */
+    private static HedgeMaze loadMaze( String fileName ) {
+        try {
+            return new HedgeMaze( fileName );
+        }
+        catch( MazeFormatException e ) {
+            System.out.println( e.getMessage() );
+        }
+        catch( IOException e ) {
+            System.out.println( "File " + fileName + " could not be read." );
+        }
+        System.exit( 1 );
+        return null;
+    }
+
+    /**
+     * Reads a number of threads from the command line, exiting with the
+     * usage if it is not a whole number of at least 1
+     *
+     * @param value number of threads
+     * @return the number of threads
+     */
+    private static int threadCount( String value ) {
+        try {
+            int threads = Integer.parseInt( value );
+            if ( threads >= 1 ) {
+                return threads;
+            }
+        }
+        catch( NumberFormatException e ) {
+            // falls through to the usage
+        }
+        usage();
+        return 0;
+    }
+
+    /**
+     * Prints how to run the program and exits
+     */
+    private static void usage() {
+        System.out.println( "Usage: java PotOfGold maze-file [--metrics seconds]" );
+        System.out.println( "       java PotOfGold maze-file --batch queries-file|- [--paths|--runs] [--out file]"
+                + " [--threads n] [--metrics seconds]" );
+        System.out.println( "       java PotOfGold maze-file --render out-file[.png|.ppm] [--cell pixels] [--path r1 c1 r2 c2]" );
+        System.out.println( "       java PotOfGold maze-file --distances r c out-file [--binary]" );
+        System.out.println( "       java PotOfGold maze-file --matrix points-file|- [--out file] [--threads n]" );
+        System.out.println( "       java PotOfGold tiled-maze-file --search r1 c1 r2 c2 [--astar] [--runs]"
+                + " [--memory megabytes]" );
+        System.out.println( "       java PotOfGold --serve port|socket-path maze-file [maze-file ...] [--threads n]"
+                + " [--metrics seconds]" );
+        System.out.println( "       java PotOfGold --convert maze-file binary-maze-file" );
+        System.out.println( "       java PotOfGold --convert maze-file tiled-maze-file --tile 8|16|...|4096" );
+        System.out.println( "       java PotOfGold --generate rows cols maze-file [--algorithm eller|backtracker|kruskal|wilson]"
+                + " [--seed n] [--braid fraction] [--tile n]" );
+        System.out.println( "         only eller streams, the others hold the maze in memory, under a byte a cell"
+                + " and 4 bytes more for kruskal" );
+        System.exit( 1 );
+    }
+}
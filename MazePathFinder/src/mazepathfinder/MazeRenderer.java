@@ -0,0 +1,428 @@
+package mazepathfinder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Draws a maze as ASCII art or as a PPM or PNG image, optionally with a
+ * path drawn on top. Every output line (or image scanline) is built in
+ * one reused buffer straight from the wall bits of the grid and written
+ * out in one call, so nothing is allocated per cell and even very large
+ * mazes stream out a line at a time.
+ *
+ * The ASCII drawing is the one printLayout has always printed, with the
+ * cells of the path marked S (start), * and G (pot of gold). In images
+ * every cell is a square of cellSize pixels with one pixel walls between
+ * them, walls black, open floor white and the path red.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class MazeRenderer {
+
+    /** Palette index of walls */
+    private static final byte WALL = 0;
+
+    /** Palette index of open floor */
+    private static final byte FLOOR = 1;
+
+    /** Palette index of the path */
+    private static final byte PATH = 2;
+
+    /** Red, green and blue of every palette index */
+    private static final byte[] PALETTE = { 0, 0, 0, (byte) 255, (byte) 255, (byte) 255, (byte) 220, 40, 40 };
+
+    /** First eight bytes of every PNG file */
+    private static final byte[] PNG_SIGNATURE = { (byte) 137, 'P', 'N', 'G', '\r', '\n', 26, '\n' };
+
+    /** Size of the IDAT chunks a PNG is split into */
+    private static final int PNG_CHUNK = 1 << 16;
+
+    /** Maze being drawn */
+    private final HedgeMaze hedgeMaze;
+
+    /** Grid of the maze */
+    private final GridGraph grid;
+
+    /** End of every line of ASCII output */
+    private final byte[] newline = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    /** One bit per cell on the path being drawn, null when there is none */
+    private long[] onPath;
+
+    /** One bit per cell whose step east is part of the path */
+    private long[] pathEast;
+
+    /** One bit per cell whose step south is part of the path */
+    private long[] pathSouth;
+
+    /** First cell of the path being drawn, -1 when there is none */
+    private int pathStart = -1;
+
+    /** Last cell of the path being drawn, -1 when there is none */
+    private int pathFinish = -1;
+
+    /**
+     * Constructor for the renderer
+     *
+     * @param hedgeMaze maze to draw
+     */
+    public MazeRenderer(HedgeMaze hedgeMaze) {
+        this.hedgeMaze = hedgeMaze;
+        this.grid = hedgeMaze.getGrid();
+    }
+
+    /**
+     * Draws the maze to a file, as a PNG or PPM image if the file name
+     * ends in .png or .ppm and as ASCII art otherwise
+     *
+     * @param fileName file to write, replaced if it exists
+     * @param path path to draw on top, or null for none
+     * @param cellSize width and height of a cell in pixels, for images
+     * @throws IOException if the file can't be written
+     */
+    public void write(String fileName, Collection<Coordinates> path, int cellSize) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(fileName)), 1 << 16)) {
+            String lower = fileName.toLowerCase();
+            if (lower.endsWith(".png")) {
+                writePng(out, path, cellSize);
+            } else if (lower.endsWith(".ppm")) {
+                writePpm(out, path, cellSize);
+            } else {
+                writeAscii(out, path);
+            }
+        }
+    }
+
+    /**
+     * Draws the maze as ASCII art
+     *
+     * @param out where the text goes
+     * @param path path to mark, or null for none
+     * @throws IOException if writing fails
+     */
+    public void writeAscii(OutputStream out, Collection<Coordinates> path) throws IOException {
+        markPath(path);
+        int rows = grid.numRows();
+        int cols = grid.numCols();
+        byte[] line = new byte[Math.max(4 + 4 * cols, 3 + cols * (2 + digits(cols - 1))) + digits(rows - 1)];
+
+        int at = put(line, 0, "   ");
+        for (int c = 0; c < cols; c++) {
+            line[at++] = ' ';
+            at = putNumber(line, at, c);
+            line[at++] = ' ';
+        }
+        writeLine(out, line, at);
+        at = put(line, 0, "   +");
+        for (int c = 0; c < cols; c++) {
+            at = put(line, at, "---+");
+        }
+        writeLine(out, line, at);
+        byte[] closedFloor = line.clone();
+        int closedLength = at;
+
+        for (int r = 0; r < rows; r++) {
+            line[0] = ' ';
+            at = putNumber(line, 1, r);
+            line[at++] = '|';
+            for (int c = 0; c < cols; c++) {
+                int cell = grid.index(r, c);
+                line[at++] = ' ';
+                line[at++] = cell == pathStart ? (byte) 'S' : cell == pathFinish ? (byte) 'G'
+                        : isSet(onPath, cell) ? (byte) '*' : (byte) ' ';
+                line[at++] = ' ';
+                line[at++] = c < cols - 1 && grid.hasEast(cell) ? (byte) ' ' : (byte) '|';
+            }
+            writeLine(out, line, at);
+            if (r < rows - 1) {
+                at = put(line, 0, "   +");
+                for (int c = 0; c < cols; c++) {
+                    at = put(line, at, grid.hasSouth(grid.index(r, c)) ? "   +" : "---+");
+                }
+                writeLine(out, line, at);
+            } else {
+                writeLine(out, closedFloor, closedLength);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Draws the maze as a binary PPM (P6) image
+     *
+     * @param out where the image goes
+     * @param path path to draw, or null for none
+     * @param cellSize width and height of a cell in pixels
+     * @throws IOException if writing fails
+     */
+    public void writePpm(OutputStream out, Collection<Coordinates> path, int cellSize) throws IOException {
+        markPath(path);
+        int width = imageSize(grid.numCols(), cellSize);
+        int height = imageSize(grid.numRows(), cellSize);
+        out.write(("P6\n" + width + " " + height + "\n255\n").getBytes(StandardCharsets.US_ASCII));
+        byte[] scanline = new byte[width];
+        byte[] rgb = new byte[3 * width];
+        for (int y = 0; y < height; y++) {
+            if (y % (cellSize + 1) <= 1) {
+                drawScanline(scanline, y, cellSize);
+                for (int x = 0; x < width; x++) {
+                    System.arraycopy(PALETTE, 3 * scanline[x], rgb, 3 * x, 3);
+                }
+            }
+            out.write(rgb);
+        }
+        out.flush();
+    }
+
+    /**
+     * Draws the maze as an 8 bit indexed color PNG image. The pixels are
+     * compressed and written a scanline at a time, so the image is never
+     * held in memory.
+     *
+     * @param out where the image goes
+     * @param path path to draw, or null for none
+     * @param cellSize width and height of a cell in pixels
+     * @throws IOException if writing fails
+     */
+    public void writePng(OutputStream out, Collection<Coordinates> path, int cellSize) throws IOException {
+        markPath(path);
+        int width = imageSize(grid.numCols(), cellSize);
+        int height = imageSize(grid.numRows(), cellSize);
+        out.write(PNG_SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;
+        header[9] = 3;
+        writeChunk(out, "IHDR", header, 0, header.length);
+        writeChunk(out, "PLTE", PALETTE, 0, PALETTE.length);
+
+        byte[] scanline = new byte[width + 1];
+        byte[] pixels = new byte[width];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream idat = new DeflaterOutputStream(new ChunkStream(out), deflater, PNG_CHUNK)) {
+            for (int y = 0; y < height; y++) {
+                if (y % (cellSize + 1) <= 1) {
+                    drawScanline(pixels, y, cellSize);
+                    System.arraycopy(pixels, 0, scanline, 1, width);
+                }
+                idat.write(scanline);
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(out, "IEND", new byte[0], 0, 0);
+        out.flush();
+    }
+
+    /**
+     * Fills one row of pixels with palette indices
+     *
+     * @param pixels one entry per pixel of the row
+     * @param y row of the image
+     * @param cellSize width and height of a cell in pixels
+     */
+    private void drawScanline(byte[] pixels, int y, int cellSize) {
+        int rows = grid.numRows();
+        int cols = grid.numCols();
+        int step = cellSize + 1;
+        int band = y / step;
+        boolean wallRow = y % step == 0;
+        for (int x = 0; x < pixels.length; x++) {
+            int slot = x / step;
+            boolean wallColumn = x % step == 0;
+            byte color;
+            if (wallRow && wallColumn) {
+                color = WALL;
+            } else if (wallRow) {
+                // the floor between row band - 1 and row band
+                int above = band > 0 && band < rows ? grid.index(band - 1, slot) : -1;
+                color = above < 0 || !grid.hasSouth(above) ? WALL : isSet(pathSouth, above) ? PATH : FLOOR;
+            } else if (wallColumn) {
+                // the wall between column slot - 1 and column slot
+                int left = slot > 0 && slot < cols ? grid.index(band, slot - 1) : -1;
+                color = left < 0 || !grid.hasEast(left) ? WALL : isSet(pathEast, left) ? PATH : FLOOR;
+            } else {
+                color = isSet(onPath, grid.index(band, slot)) ? PATH : FLOOR;
+            }
+            pixels[x] = color;
+        }
+    }
+
+    /**
+     * Records which cells and which steps between them are on the path
+     */
+    private void markPath(Collection<Coordinates> path) {
+        if (path == null || path.isEmpty()) {
+            this.onPath = null;
+            this.pathEast = null;
+            this.pathSouth = null;
+            this.pathStart = -1;
+            this.pathFinish = -1;
+            return;
+        }
+        int words = (grid.size() + 63) >>> 6;
+        this.onPath = new long[words];
+        this.pathEast = new long[words];
+        this.pathSouth = new long[words];
+        int prev = -1;
+        for (Coordinates cord : path) {
+            int cell = hedgeMaze.toCell(cord);
+            set(this.onPath, cell);
+            if (prev >= 0) {
+                int first = Math.min(prev, cell);
+                int second = Math.max(prev, cell);
+                if (second == first + grid.numCols()) {
+                    set(this.pathSouth, first);
+                } else if (second == first + 1) {
+                    set(this.pathEast, first);
+                }
+            }
+            prev = cell;
+        }
+        this.pathStart = hedgeMaze.toCell(path.iterator().next());
+        this.pathFinish = prev;
+    }
+
+    /**
+     * @return width or height in pixels of an image of count cells
+     * @throws IllegalArgumentException if it would not fit in an int
+     */
+    private static int imageSize(int count, int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("cell size must be at least 1 pixel");
+        }
+        long size = (long) count * (cellSize + 1) + 1;
+        if (size > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("image would be " + size + " pixels wide, use a smaller cell size");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Writes a line of ASCII output followed by the line separator
+     */
+    private void writeLine(OutputStream out, byte[] line, int length) throws IOException {
+        out.write(line, 0, length);
+        out.write(this.newline);
+    }
+
+    /**
+     * Writes a PNG chunk with its length, type and CRC
+     */
+    private static void writeChunk(OutputStream out, String type, byte[] data, int off, int length)
+            throws IOException {
+        byte[] head = new byte[8];
+        putInt(head, 0, length);
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(typeBytes, 0, head, 4, 4);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, off, length);
+        byte[] tail = new byte[4];
+        putInt(tail, 0, (int) crc.getValue());
+        out.write(head);
+        out.write(data, off, length);
+        out.write(tail);
+    }
+
+    /**
+     * Copies ASCII text into a line
+     *
+     * @return position after the text
+     */
+    private static int put(byte[] line, int at, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            line[at++] = (byte) text.charAt(i);
+        }
+        return at;
+    }
+
+    /**
+     * Writes a number right aligned in at least two characters, like %2d
+     *
+     * @return position after the number
+     */
+    private static int putNumber(byte[] line, int at, int value) {
+        int width = Math.max(2, digits(value));
+        for (int i = at + width - 1; i >= at; i--) {
+            line[i] = i == at + width - 1 || value > 0 ? (byte) ('0' + value % 10) : (byte) ' ';
+            value /= 10;
+        }
+        return at + width;
+    }
+
+    /**
+     * @return number of decimal digits of a value that is at least zero
+     */
+    private static int digits(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes an int big endian
+     */
+    private static void putInt(byte[] buf, int at, int value) {
+        buf[at] = (byte) (value >>> 24);
+        buf[at + 1] = (byte) (value >>> 16);
+        buf[at + 2] = (byte) (value >>> 8);
+        buf[at + 3] = (byte) value;
+    }
+
+    /**
+     * @return true if the bit of a cell is set, false for a null set
+     */
+    private static boolean isSet(long[] bits, int cell) {
+        return bits != null && (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Sets the bit of a cell
+     */
+    private static void set(long[] bits, int cell) {
+        bits[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Turns everything written to it into PNG IDAT chunks
+     */
+    private static final class ChunkStream extends OutputStream {
+
+        private final OutputStream out;
+
+        ChunkStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                writeChunk(this.out, "IDAT", b, off, len);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.out.flush();
+        }
+    }
+}
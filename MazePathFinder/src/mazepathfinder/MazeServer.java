@@ -0,0 +1,484 @@
+package mazepathfinder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Answers path queries over a socket, so mazes are loaded once and stay
+ * warm for any number of clients. The server listens on a TCP port of the
+ * loopback address or on a Unix domain socket. One thread multiplexes
+ * every connection with a Selector and hands each request to a small pool
+ * of worker threads, each of which keeps its own BfsEngine for every maze.
+ *
+ * The protocol is one line of ASCII per request and one line per reply.
+ * Requests on a connection are answered in the order they were sent, so a
+ * client can pipeline as many as it likes.
+ *
+ *   PING                          OK
+ *   MAZES                         OK name rows cols [name rows cols ...]
+ *   DIST maze r1 c1 r2 c2         OK moves              (-1 if there is no path)
+ *   PATH maze r1 c1 r2 c2         OK moves (r,c) (r,c) ...
+ *   RUNS maze r1 c1 r2 c2         OK moves R12 D3 L7 ...  (the path as runs of moves)
+ *   STATS                         OK searches n queries n mean-us x p99-us x
+ *   QUIT                          closes the connection
+ *
+ * Anything else gets "ERR message". Mazes are named after their file
+ * without its directory and extension. Walls never change while the
+ * server runs, which is what lets the workers share the grids.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class MazeServer implements Closeable {
+
+    /** Longest request line accepted, longer ones close the connection */
+    public static final int MAX_LINE = 4096;
+
+    /** Mazes served, by name */
+    private final Map<String, HedgeMaze> mazes = new LinkedHashMap<>();
+
+    /** Position of each maze in the engine arrays, by name */
+    private final Map<String, Integer> ids = new LinkedHashMap<>();
+
+    /** Engines of each worker thread, one per maze, created on first use */
+    private final ThreadLocal<BfsEngine[]> engines;
+
+    /** Cost of every query answered */
+    private final SearchMetrics metrics = new SearchMetrics();
+
+    /** Listening channel */
+    private final ServerSocketChannel server;
+
+    /** Multiplexes the listening channel and every connection */
+    private final Selector selector;
+
+    /** Worker threads the requests are answered on */
+    private final ExecutorService workers;
+
+    /** Replies finished by the workers, waiting for the selector thread */
+    private final ConcurrentLinkedQueue<Reply> replies = new ConcurrentLinkedQueue<>();
+
+    /** Socket file to remove on close, null for TCP */
+    private final Path socketFile;
+
+    /** False once close has been called */
+    private volatile boolean running = true;
+
+    /**
+     * Loads the mazes and starts listening, call run to serve
+     *
+     * @param address TCP port on the loopback address (0 picks a free
+     *                one), or the path of a Unix domain socket to create
+     * @param mazeFiles maze files to serve, in any format HedgeMaze reads
+     * @param threads number of worker threads
+     * @throws MazeFormatException if a maze file is not valid
+     * @throws IOException if a maze can't be read or the socket can't be opened
+     * @throws IllegalArgumentException if two mazes have the same name or
+     *                                  there are fewer than 1 threads
+     */
+    public MazeServer(String address, List<String> mazeFiles, int threads) throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("a server needs at least 1 thread, not " + threads);
+        }
+        for (String file : mazeFiles) {
+            String name = nameOf(file);
+            if (this.mazes.containsKey(name)) {
+                throw new IllegalArgumentException("two mazes are named " + name);
+            }
+            this.ids.put(name, this.mazes.size());
+            this.mazes.put(name, new HedgeMaze(file));
+        }
+        int count = this.mazes.size();
+        this.engines = ThreadLocal.withInitial(() -> new BfsEngine[count]);
+        SocketAddress bindTo;
+        if (address.chars().allMatch(Character::isDigit)) {
+            this.socketFile = null;
+            this.server = ServerSocketChannel.open();
+            bindTo = new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+        } else {
+            this.socketFile = Path.of(address);
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            bindTo = UnixDomainSocketAddress.of(this.socketFile);
+        }
+        this.server.bind(bindTo);
+        this.server.configureBlocking(false);
+        this.selector = Selector.open();
+        this.server.register(this.selector, SelectionKey.OP_ACCEPT);
+        AtomicInteger number = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "maze-worker-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the address the server is listening on
+     * @throws IOException if the server is closed
+     */
+    public SocketAddress getAddress() throws IOException {
+        return this.server.getLocalAddress();
+    }
+
+    /**
+     * @return cost of every query answered so far
+     */
+    public SearchMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Serves clients until close is called
+     *
+     * @throws IOException if the listening socket fails
+     */
+    public void run() throws IOException {
+        try {
+            while (this.running) {
+                this.selector.select();
+                Reply reply;
+                while ((reply = this.replies.poll()) != null) {
+                    reply.connection.finish(reply.text);
+                }
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    } catch (IOException e) {
+                        connection.close();
+                    }
+                }
+            }
+        } finally {
+            for (SelectionKey key : this.selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            this.selector.close();
+            this.server.close();
+            this.workers.shutdownNow();
+            if (this.socketFile != null) {
+                Files.deleteIfExists(this.socketFile);
+            }
+        }
+    }
+
+    /**
+     * Stops the server, run returns once its current pass is done. Safe to
+     * call from any thread.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        this.selector.wakeup();
+    }
+
+    /**
+     * Accepts a waiting client, if there still is one
+     */
+    private void accept() throws IOException {
+        SocketChannel channel = this.server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(this.selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    /**
+     * Answers one request line, runs on a worker thread
+     *
+     * @param line request without its line break
+     * @return reply without its line break
+     */
+    private String answer(String line) {
+        String[] words = line.trim().split("\\s+");
+        switch (words[0].toUpperCase()) {
+            case "PING":
+                return "OK";
+            case "MAZES": {
+                StringBuilder reply = new StringBuilder("OK");
+                for (Map.Entry<String, HedgeMaze> entry : this.mazes.entrySet()) {
+                    reply.append(' ').append(entry.getKey()).append(' ').append(entry.getValue().numRows())
+                            .append(' ').append(entry.getValue().numCols());
+                }
+                return reply.toString();
+            }
+            case "STATS":
+                return String.format("OK searches %d queries %d mean-us %.1f p99-us %d", this.metrics.getSearches(),
+                        this.metrics.getQueries(), this.metrics.getMeanMicros(), this.metrics.getP99Micros());
+            case "DIST":
+            case "PATH":
+            case "RUNS":
+                return query(words, words[0].toUpperCase());
+            default:
+                return "ERR unknown request " + words[0];
+        }
+    }
+
+    /**
+     * Answers a DIST, PATH or RUNS request
+     */
+    private String query(String[] words, String request) {
+        if (words.length != 6) {
+            return "ERR expected " + words[0] + " maze r1 c1 r2 c2";
+        }
+        Integer id = this.ids.get(words[1]);
+        if (id == null) {
+            return "ERR no maze named " + words[1];
+        }
+        HedgeMaze hMaze = this.mazes.get(words[1]);
+        int[] nums = new int[4];
+        try {
+            for (int k = 0; k < 4; k++) {
+                nums[k] = Integer.parseInt(words[2 + k]);
+            }
+        } catch (NumberFormatException e) {
+            return "ERR coordinates must be integers";
+        }
+        if (!hMaze.contains(nums[0], nums[1]) || !hMaze.contains(nums[2], nums[3])) {
+            return "ERR not a valid cell location";
+        }
+        GridGraph grid = hMaze.getGrid();
+        BfsEngine[] mine = this.engines.get();
+        if (mine[id] == null) {
+            mine[id] = new BfsEngine(grid);
+        }
+        BfsEngine engine = mine[id];
+        int start = grid.index(nums[0], nums[1]);
+        int finish = grid.index(nums[2], nums[3]);
+        long allocatedBefore = SearchMetrics.allocatedBytes();
+        long begin = System.nanoTime();
+        engine.searchBidirectional(start, finish);
+        long nanos = System.nanoTime() - begin;
+        long allocated = allocatedBefore < 0 ? -1 : SearchMetrics.allocatedBytes() - allocatedBefore;
+        int steps = engine.distanceTo(finish);
+        if (this.metrics.recordSearch(nanos, engine.getExpanded(), engine.getPeakFrontier(), allocated)) {
+            this.metrics.setSlowest(nanos, words[1] + " " + hMaze.toCoordinates(start) + " to "
+                    + hMaze.toCoordinates(finish));
+        }
+        this.metrics.recordPath(steps);
+        StringBuilder reply = new StringBuilder("OK ").append(steps);
+        if (request.equals("PATH") && steps >= 0) {
+            int[] cells = engine.pathCells(finish, new int[steps + 1]);
+            for (int i = 0; i <= steps; i++) {
+                reply.append(" (").append(grid.rowOf(cells[i])).append(',').append(grid.colOf(cells[i])).append(')');
+            }
+        } else if (request.equals("RUNS") && steps > 0) {
+            reply.append(' ').append(PathEncoding.format(PathEncoding.runsTo(engine, finish)));
+        }
+        return reply.toString();
+    }
+
+    /**
+     * @return file name without its directory and extension
+     */
+    private static String nameOf(String file) {
+        String name = Path.of(file).getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /**
+     * A reply finished by a worker
+     */
+    private record Reply(Connection connection, String text) {
+    }
+
+    /**
+     * One client. Only the selector thread touches a connection; the
+     * worker answering its current request hands the reply back through
+     * the replies queue. At most one request of a connection is with the
+     * workers at a time, which keeps the replies in order.
+     */
+    private final class Connection {
+
+        /** Channel to the client */
+        private final SocketChannel channel;
+
+        /** Registration with the selector */
+        private final SelectionKey key;
+
+        /** Bytes read but not yet taken as requests */
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_LINE);
+
+        /** Replies waiting to be written */
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+
+        /** True while a worker answers a request of this connection */
+        private boolean busy;
+
+        /** True once the client has asked to quit or stopped sending */
+        private boolean closing;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Reads what the client sent and starts on the next request
+         */
+        void read() throws IOException {
+            if (this.channel.read(this.in) < 0) {
+                this.closing = true;
+            }
+            next();
+        }
+
+        /**
+         * Writes as much of the waiting replies as the socket takes
+         */
+        void write() throws IOException {
+            while (!this.out.isEmpty()) {
+                ByteBuffer buf = this.out.peek();
+                this.channel.write(buf);
+                if (buf.hasRemaining()) {
+                    break;
+                }
+                this.out.poll();
+            }
+            next();
+        }
+
+        /**
+         * Takes the reply of a worker and moves on to the next request
+         */
+        void finish(String text) {
+            this.busy = false;
+            if (!this.channel.isOpen()) {
+                return;
+            }
+            this.out.add(ByteBuffer.wrap((text + "\n").getBytes(StandardCharsets.US_ASCII)));
+            try {
+                write();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /**
+         * Hands the next complete request to the workers once the last one
+         * is answered and written, and keeps the interest set up to date
+         */
+        private void next() {
+            while (!this.busy && this.out.isEmpty() && this.channel.isOpen()) {
+                String line = takeLine();
+                if (line == null) {
+                    if (!this.in.hasRemaining()) {
+                        reject("ERR request longer than " + MAX_LINE + " bytes");
+                        return;
+                    }
+                    if (this.closing) {
+                        close();
+                        return;
+                    }
+                    break;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (line.trim().equalsIgnoreCase("QUIT")) {
+                    close();
+                    return;
+                }
+                this.busy = true;
+                workers.execute(() -> {
+                    String text;
+                    try {
+                        text = answer(line);
+                    } catch (RuntimeException e) {
+                        text = "ERR " + e;
+                    }
+                    replies.add(new Reply(this, text));
+                    selector.wakeup();
+                });
+            }
+            if (this.key.isValid()) {
+                this.key.interestOps((this.out.isEmpty() ? 0 : SelectionKey.OP_WRITE)
+                        | (this.busy || this.closing ? 0 : SelectionKey.OP_READ));
+            }
+        }
+
+        /**
+         * @return the next line read, without its line break, or null if a
+         *          whole line hasn't come in yet
+         */
+        private String takeLine() {
+            int end = this.in.position();
+            for (int i = 0; i < end; i++) {
+                if (this.in.get(i) == '\n') {
+                    int length = i > 0 && this.in.get(i - 1) == '\r' ? i - 1 : i;
+                    String line = new String(this.in.array(), 0, length, StandardCharsets.US_ASCII);
+                    this.in.flip().position(i + 1);
+                    this.in.compact();
+                    return line;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Sends one last reply and closes the connection
+         */
+        private void reject(String text) {
+            try {
+                this.channel.write(ByteBuffer.wrap((text + "\n").getBytes(StandardCharsets.US_ASCII)));
+            } catch (IOException e) {
+                // closing anyway
+            }
+            close();
+        }
+
+        /**
+         * Closes the connection, a reply still with a worker is dropped
+         */
+        void close() {
+            this.key.cancel();
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                // nothing left to do with it
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package mazepathfinder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes mazes in the text format that MazeLoader reads, one row at a
+ * time, so a maze never has to be held in memory as text. Each row is
+ * its line of cells followed by the line of floors below it, except for
+ * the last row which has no floor line.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class MazeTextWriter {
+
+    /** Where the text goes */
+    private final OutputStream out;
+
+    /** Number of rows of the maze */
+    private final int rows;
+
+    /** Number of columns of the maze */
+    private final int cols;
+
+    /** Line being put together, reused for every line */
+    private final byte[] line;
+
+    /** Number of rows written so far */
+    private int written;
+
+    /**
+     * Constructor that writes the header line right away
+     *
+     * @param out where the text goes, should be buffered
+     * @param rows number of rows of the maze
+     * @param cols number of columns of the maze
+     * @throws IOException if writing fails
+     */
+    public MazeTextWriter(OutputStream out, int rows, int cols) throws IOException {
+        this.out = out;
+        this.rows = rows;
+        this.cols = cols;
+        this.line = new byte[4 * cols - 2];
+        out.write((rows + " " + cols + "\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Writes the next row of the maze
+     *
+     * @param east true at every column whose east wall is open
+     * @param south true at every column whose south wall is open, ignored
+     *              for the last row
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if every row has been written already
+     */
+    public void writeRow(boolean[] east, boolean[] south) throws IOException {
+        if (this.written == this.rows) {
+            throw new IllegalStateException("all " + this.rows + " rows are written");
+        }
+        int end = this.line.length - 1;
+        for (int c = 0; c < this.cols; c++) {
+            this.line[4 * c] = MazeLoader.CELL;
+            if (c < this.cols - 1) {
+                this.line[4 * c + 1] = ' ';
+                this.line[4 * c + 2] = east[c] ? MazeLoader.NO_WALL : MazeLoader.SIDE_WALL;
+                this.line[4 * c + 3] = ' ';
+            }
+        }
+        this.line[end] = '\n';
+        this.out.write(this.line);
+        this.written++;
+        if (this.written < this.rows) {
+            for (int c = 0; c < this.cols; c++) {
+                this.line[4 * c] = south[c] ? MazeLoader.NO_WALL : MazeLoader.FLOOR_WALL;
+                if (c < this.cols - 1) {
+                    this.line[4 * c + 2] = ' ';
+                }
+            }
+            this.out.write(this.line);
+        }
+    }
+
+    /**
+     * Writes a whole grid in the text format
+     *
+     * @param grid grid to write
+     * @param out where the text goes, should be buffered
+     * @throws IOException if writing fails
+     */
+    public static void write(GridGraph grid, OutputStream out) throws IOException {
+        int rows = grid.numRows();
+        int cols = grid.numCols();
+        MazeTextWriter writer = new MazeTextWriter(out, rows, cols);
+        boolean[] east = new boolean[cols];
+        boolean[] south = new boolean[cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int bits = grid.bits(grid.index(r, c));
+                east[c] = (bits & GridGraph.EAST) != 0;
+                south[c] = (bits & GridGraph.SOUTH) != 0;
+            }
+            writer.writeRow(east, south);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes a whole grid to a text maze file, replacing the file if it exists
+     *
+     * @param grid grid to write
+     * @param fileName location of the maze file
+     * @throws IOException if the file can't be written
+     */
+    public static void write(GridGraph grid, String fileName) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(fileName)), 1 << 16)) {
+            write(grid, out);
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package mazepathfinder;
+
 import java.util.*;
 
 /**
@@ -0,0 +1,279 @@
+package mazepathfinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * PathFinder that spreads a single Breadth First Search across the cores.
+ * The search is level synchronous: every cell of the current frontier is
+ * expanded in parallel, the cells they discover become the next frontier,
+ * and only then does the next level start, so every cell is still reached
+ * by one of the shortest paths to it. Cells are claimed with a
+ * compare-and-set on a visited bitset, so each cell gets exactly one
+ * predecessor. Levels with a small frontier are not worth splitting up and
+ * are expanded on the calling thread.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class ParallelBfsPathFinder implements PathFinder {
+
+    /** Frontiers smaller than this are expanded on the calling thread */
+    public static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /** Predecessor value stored for the start cell */
+    private static final int NONE = -1;
+
+    /** Maze being searched */
+    private final HedgeMaze hedgeMaze;
+
+    /** Grid of the maze */
+    private final GridGraph grid;
+
+    /** Pool the levels are expanded on */
+    private final ForkJoinPool pool;
+
+    /** One bit per cell, set once the cell has been reached */
+    private final AtomicLongArray visited;
+
+    /** Predecessor of every reached cell */
+    private final int[] pred;
+
+    /** Cells of the level being expanded */
+    private int[] frontier = new int[1024];
+
+    /** Cells of the next level, gathered from the chunk buffers */
+    private int[] next = new int[1024];
+
+    /** Cells found by each chunk of a parallel level */
+    private final int[][] chunkOut;
+
+    /** Number of cells found by each chunk of a parallel level */
+    private final int[] chunkSize;
+
+    /** Number of cells expanded by the last query */
+    private int expanded;
+
+    /** Largest level of the last query */
+    private int peakFrontier;
+
+    /**
+     * Constructor that expands levels on the common pool
+     *
+     * @param hedgeMaze maze to search
+     */
+    public ParallelBfsPathFinder(HedgeMaze hedgeMaze) {
+        this(hedgeMaze, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for the parallel path finder
+     *
+     * @param hedgeMaze maze to search
+     * @param pool pool the levels are expanded on
+     */
+    public ParallelBfsPathFinder(HedgeMaze hedgeMaze, ForkJoinPool pool) {
+        this.hedgeMaze = hedgeMaze;
+        this.grid = hedgeMaze.getGrid();
+        this.pool = pool;
+        this.visited = new AtomicLongArray((grid.size() + 63) >>> 6);
+        this.pred = new int[grid.size()];
+        int chunks = Math.max(1, pool.getParallelism() * 4);
+        this.chunkOut = new int[chunks][256];
+        this.chunkSize = new int[chunks];
+    }
+
+    @Override
+    public List<Coordinates> findPath(Coordinates start, Coordinates finish) {
+        int startCell = hedgeMaze.toCell(start);
+        int finishCell = hedgeMaze.toCell(finish);
+        for (int i = 0; i < visited.length(); i++) {
+            visited.lazySet(i, 0L);
+        }
+        this.expanded = 0;
+        this.peakFrontier = 1;
+        claim(startCell);
+        pred[startCell] = NONE;
+        frontier[0] = startCell;
+        int size = 1;
+        while (size > 0 && !isVisited(finishCell)) {
+            this.expanded += size;
+            this.peakFrontier = Math.max(this.peakFrontier, size);
+            size = size < SEQUENTIAL_THRESHOLD ? expandSequential(size) : expandParallel(size);
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+        return buildPath(finishCell);
+    }
+
+    /**
+     * Expands a level on the calling thread
+     *
+     * @param size number of cells in the frontier
+     * @return number of cells in the next level
+     */
+    private int expandSequential(int size) {
+        int[] nbrs = new int[4];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            int current = frontier[i];
+            int count = grid.neighbors(current, nbrs);
+            for (int k = 0; k < count; k++) {
+                int nbr = nbrs[k];
+                if (claim(nbr)) {
+                    pred[nbr] = current;
+                    if (found == next.length) {
+                        next = Arrays.copyOf(next, found * 2);
+                    }
+                    next[found++] = nbr;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Expands a level by splitting the frontier into chunks on the pool,
+     * then gathers what every chunk found into the next level
+     *
+     * @param size number of cells in the frontier
+     * @return number of cells in the next level
+     */
+    private int expandParallel(int size) {
+        int chunks = chunkOut.length;
+        pool.invoke(new Chunks(0, chunks, size));
+        int total = 0;
+        for (int c = 0; c < chunks; c++) {
+            total += chunkSize[c];
+        }
+        if (next.length < total) {
+            next = new int[Math.max(total, next.length * 2)];
+        }
+        int at = 0;
+        for (int c = 0; c < chunks; c++) {
+            System.arraycopy(chunkOut[c], 0, next, at, chunkSize[c]);
+            at += chunkSize[c];
+        }
+        return total;
+    }
+
+    /**
+     * Expands the part of the frontier that belongs to one chunk
+     *
+     * @param chunk which chunk
+     * @param size number of cells in the frontier
+     */
+    private void expandChunk(int chunk, int size) {
+        int chunks = chunkOut.length;
+        int from = (int) ((long) size * chunk / chunks);
+        int to = (int) ((long) size * (chunk + 1) / chunks);
+        int[] out = chunkOut[chunk];
+        int[] nbrs = new int[4];
+        int found = 0;
+        for (int i = from; i < to; i++) {
+            int current = frontier[i];
+            int count = grid.neighbors(current, nbrs);
+            for (int k = 0; k < count; k++) {
+                int nbr = nbrs[k];
+                if (claim(nbr)) {
+                    pred[nbr] = current;
+                    if (found == out.length) {
+                        out = Arrays.copyOf(out, found * 2);
+                    }
+                    out[found++] = nbr;
+                }
+            }
+        }
+        chunkOut[chunk] = out;
+        chunkSize[chunk] = found;
+    }
+
+    /**
+     * Marks a cell as visited
+     *
+     * @return true if this call was the one that marked it
+     */
+    private boolean claim(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << cell;
+        long old = visited.get(word);
+        while ((old & bit) == 0) {
+            if (visited.compareAndSet(word, old, old | bit)) {
+                return true;
+            }
+            old = visited.get(word);
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the cell has been reached
+     */
+    private boolean isVisited(int cell) {
+        return (visited.get(cell >>> 6) & (1L << cell)) != 0;
+    }
+
+    /**
+     * Walks the predecessors back from the finish to build the path
+     */
+    private List<Coordinates> buildPath(int finishCell) {
+        List<Coordinates> path = new ArrayList<>();
+        if (!isVisited(finishCell)) {
+            return path;
+        }
+        for (int at = finishCell; at != NONE; at = pred[at]) {
+            path.add(hedgeMaze.toCoordinates(at));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    @Override
+    public int getNodesExpanded() {
+        return this.expanded;
+    }
+
+    @Override
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    @Override
+    public String getName() {
+        return "parallel";
+    }
+
+    /**
+     * Splits the chunks of a level in half until each task runs one chunk
+     */
+    private final class Chunks extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int size;
+
+        Chunks(int from, int to, int size) {
+            this.from = from;
+            this.to = to;
+            this.size = size;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                expandChunk(this.from, this.size);
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new Chunks(this.from, mid, this.size), new Chunks(mid, this.to, this.size));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package mazepathfinder;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs many path queries at once over one shared maze. As long as no wall
+ * changes while queries run, any number of threads can search the grid of
+ * a HedgeMaze; each worker thread of the pool keeps its own BfsEngine so
+ * the searches never share scratch space and never allocate it again.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class ParallelQueryExecutor implements AutoCloseable {
+
+    /**
+     * A piece of work that searches with the engine of the thread it runs on
+     */
+    public interface Task {
+        /**
+         * @param engine engine owned by the current thread
+         * @param index which piece of work to do
+         */
+        void run(BfsEngine engine, int index);
+    }
+
+    /** Grid shared by every thread */
+    private final GridGraph grid;
+
+    /** Pool the queries run on */
+    private final ForkJoinPool pool;
+
+    /** Engine of each worker thread, created the first time it is needed */
+    private final ThreadLocal<BfsEngine> engines;
+
+    /** Number of queries answered by the last call to distances */
+    private long lastQueries;
+
+    /** Time the last call to distances took */
+    private long lastNanos;
+
+    /**
+     * Constructor for the executor
+     *
+     * @param hMaze maze every query runs on
+     * @param threads number of worker threads
+     */
+    public ParallelQueryExecutor(HedgeMaze hMaze, int threads) {
+        this.grid = hMaze.getGrid();
+        this.pool = new ForkJoinPool(Math.max(1, threads));
+        this.engines = ThreadLocal.withInitial(() -> new BfsEngine(this.grid));
+    }
+
+    /**
+     * Runs tasks 0 to count - 1 spread across the pool and waits for all of
+     * them to finish
+     *
+     * @param count number of tasks
+     * @param task work to do for each index
+     */
+    public void run(int count, Task task) {
+        if (count == 0) {
+            return;
+        }
+        int grain = Math.max(1, count / (this.pool.getParallelism() * 8));
+        this.pool.invoke(new Range(task, 0, count, grain));
+    }
+
+    /**
+     * Finds the length of the shortest path of every query. Queries are
+     * grouped by start cell so each group is one search on one thread, from
+     * both ends when the group has a single finish.
+     *
+     * @param starts start cell of each query
+     * @param finishes finish cell of each query
+     * @return number of moves on each shortest path in input order, -1
+     *          where there is no path
+     */
+    public int[] distances(int[] starts, int[] finishes) {
+        long begin = System.nanoTime();
+        int count = starts.length;
+        long[] order = new long[count];
+        for (int q = 0; q < count; q++) {
+            order[q] = ((long) starts[q] << 32) | q;
+        }
+        Arrays.sort(order);
+        int[] groupStart = groupBoundaries(order);
+        int groups = groupStart.length - 1;
+
+        int[] result = new int[count];
+        run(groups, (engine, g) -> {
+            int from = groupStart[g];
+            int to = groupStart[g + 1];
+            int[] targets = new int[to - from];
+            for (int k = from; k < to; k++) {
+                targets[k - from] = finishes[(int) order[k]];
+            }
+            int source = (int) (order[from] >>> 32);
+            if (BatchQueryRunner.oneTarget(targets, targets.length)) {
+                engine.searchBidirectional(source, targets[0]);
+                int steps = engine.distanceTo(targets[0]);
+                for (int k = from; k < to; k++) {
+                    result[(int) order[k]] = steps;
+                }
+                return;
+            }
+            engine.searchAll(source, targets, 0, targets.length);
+            for (int k = from; k < to; k++) {
+                int q = (int) order[k];
+                result[q] = engine.targetDistance(finishes[q]);
+            }
+        });
+        this.lastQueries = count;
+        this.lastNanos = System.nanoTime() - begin;
+        return result;
+    }
+
+    /**
+     * Finds where each run of equal start cells begins in sorted query keys
+     *
+     * @param order start cell in the high 32 bits of each key, sorted
+     * @return index of the first key of every group, followed by the
+     *          number of keys
+     */
+    static int[] groupBoundaries(long[] order) {
+        int groups = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i == 0 || (order[i] >>> 32) != (order[i - 1] >>> 32)) {
+                groups++;
+            }
+        }
+        int[] bounds = new int[groups + 1];
+        int g = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i == 0 || (order[i] >>> 32) != (order[i - 1] >>> 32)) {
+                bounds[g++] = i;
+            }
+        }
+        bounds[groups] = order.length;
+        return bounds;
+    }
+
+    /**
+     * @return queries per second of the last call to distances
+     */
+    public double getQueriesPerSecond() {
+        return this.lastNanos == 0 ? 0 : this.lastQueries * 1e9 / this.lastNanos;
+    }
+
+    /**
+     * @return number of worker threads
+     */
+    public int getThreads() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * Stops the worker threads
+     */
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Splits a range of task indices in half until it is small enough to
+     * run on one thread
+     */
+    private final class Range extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Task task;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        Range(Task task, int from, int to, int grain) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.grain) {
+                BfsEngine engine = engines.get();
+                for (int i = this.from; i < this.to; i++) {
+                    this.task.run(engine, i);
+                }
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new Range(this.task, this.from, mid, this.grain),
+                    new Range(this.task, mid, this.to, this.grain));
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package mazepathfinder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of path query results keyed by maze, start
+ * and finish, plus a smaller cache of whole distance fields keyed by maze
+ * and start. Paths are kept as arrays of cell indices, which is much
+ * smaller than a list of coordinates. The cache counts its hits, misses
+ * and evictions so its size can be tuned.
+ *
+ * Registered as a WallListener the cache stays correct when walls change:
+ * closing a wall drops only the paths through it, opening one drops only
+ * the paths it could shorten, and the distance fields are repaired in
+ * place with DistanceRepair.
+ *
+ * Every method is synchronized, so one cache can sit in front of path
+ * finders on several threads.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class PathCache implements WallListener {
+
+    /**
+     * Key of a cached path, mazes are compared by identity
+     */
+    private record Key(HedgeMaze maze, int start, int finish) {
+    }
+
+    /**
+     * Key of a cached tree or a start cell count
+     */
+    private record StartKey(HedgeMaze maze, int start) {
+    }
+
+    /** Cached paths in least recently used order */
+    private final LinkedHashMap<Key, int[]> paths;
+
+    /** Cached distance fields in least recently used order */
+    private final LinkedHashMap<StartKey, int[]> trees;
+
+    /** How many times each recent start cell missed the cache */
+    private final LinkedHashMap<StartKey, Integer> startMisses;
+
+    /** Misses from one start cell after which its whole tree is kept */
+    private final int treeThreshold;
+
+    /** Number of lookups answered from the cache */
+    private long hits;
+
+    /** Number of lookups not in the cache */
+    private long misses;
+
+    /** Number of entries pushed out to make room */
+    private long evictions;
+
+    /** Number of lookups answered from a cached tree */
+    private long treeHits;
+
+    /** Number of paths dropped because a wall changed */
+    private long dropped;
+
+    /**
+     * Constructor for the cache
+     *
+     * @param capacity number of paths kept
+     * @param treeCapacity number of distance fields kept, each takes an int
+     *                     per cell of its maze, 0 turns them off
+     * @param treeThreshold misses from the same start before its distance
+     *                      field is kept
+     */
+    public PathCache(int capacity, int treeCapacity, int treeThreshold) {
+        this.paths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, int[]> eldest) {
+                return evictIf(size() > capacity);
+            }
+        };
+        this.trees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StartKey, int[]> eldest) {
+                return evictIf(size() > treeCapacity);
+            }
+        };
+        this.startMisses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StartKey, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.treeThreshold = treeThreshold;
+    }
+
+    /**
+     * Looks up a path and counts the hit or miss
+     *
+     * @return the cells of the path, empty if there is no path, or null if
+     *          the query is not cached
+     */
+    public synchronized int[] getPath(HedgeMaze maze, int start, int finish) {
+        int[] cells = this.paths.get(new Key(maze, start, finish));
+        if (cells != null) {
+            this.hits++;
+        } else {
+            this.misses++;
+        }
+        return cells;
+    }
+
+    /**
+     * Stores the result of a query
+     *
+     * @param cells cells of the path, empty if there is no path
+     */
+    public synchronized void putPath(HedgeMaze maze, int start, int finish, int[] cells) {
+        this.paths.put(new Key(maze, start, finish), cells);
+    }
+
+    /**
+     * Looks up the distance field of a start cell
+     *
+     * @return distances as BfsEngine.fillDistances writes them, or null
+     */
+    public synchronized int[] getTree(HedgeMaze maze, int start) {
+        int[] tree = this.trees.get(new StartKey(maze, start));
+        if (tree != null) {
+            this.treeHits++;
+        }
+        return tree;
+    }
+
+    /**
+     * Stores the distance field of a start cell
+     */
+    public synchronized void putTree(HedgeMaze maze, int start, int[] tree) {
+        this.trees.put(new StartKey(maze, start), tree);
+    }
+
+    /**
+     * Counts a miss from a start cell
+     *
+     * @return true once the start has missed often enough that its whole
+     *          distance field should be built and kept
+     */
+    public synchronized boolean countStartMiss(HedgeMaze maze, int start) {
+        StartKey key = new StartKey(maze, start);
+        int count = this.startMisses.merge(key, 1, Integer::sum);
+        return count >= this.treeThreshold;
+    }
+
+    /**
+     * Drops the paths a wall change can affect and repairs the distance
+     * fields of the maze. A path that does not cross a closed wall is still
+     * a shortest path. An opened wall can only shorten a path if going
+     * through it could beat the path's length even in Manhattan distance.
+     */
+    @Override
+    public synchronized void wallChanged(HedgeMaze hMaze, int cell1, int cell2, boolean open) {
+        GridGraph grid = hMaze.getGrid();
+        Iterator<Map.Entry<Key, int[]>> it = this.paths.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, int[]> entry = it.next();
+            Key key = entry.getKey();
+            if (key.maze() != hMaze) {
+                continue;
+            }
+            int[] cells = entry.getValue();
+            boolean stale = open
+                    ? cells.length == 0 || canShorten(grid, key.start(), key.finish(), cells.length - 1, cell1, cell2)
+                    : crosses(cells, cell1, cell2);
+            if (stale) {
+                it.remove();
+                this.dropped++;
+            }
+        }
+        for (Map.Entry<StartKey, int[]> entry : this.trees.entrySet()) {
+            if (entry.getKey().maze() == hMaze) {
+                DistanceRepair.repair(grid, entry.getValue(), cell1, cell2, open);
+            }
+        }
+    }
+
+    /**
+     * Drops everything cached, the counters are kept
+     */
+    public synchronized void clear() {
+        this.paths.clear();
+        this.trees.clear();
+        this.startMisses.clear();
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return number of lookups not in the cache
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * @return number of paths and trees pushed out to make room
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * @return number of misses answered from a cached tree
+     */
+    public synchronized long getTreeHits() {
+        return this.treeHits;
+    }
+
+    /**
+     * @return number of paths dropped because a wall changed
+     */
+    public synchronized long getDropped() {
+        return this.dropped;
+    }
+
+    /**
+     * @return the counters in one line
+     */
+    @Override
+    public synchronized String toString() {
+        return "cache: " + this.hits + " hits, " + this.misses + " misses, "
+                + this.treeHits + " answered from trees, " + this.evictions + " evictions, "
+                + this.dropped + " dropped by wall changes, "
+                + this.paths.size() + " paths and " + this.trees.size() + " trees held";
+    }
+
+    /**
+     * @return true if a path steps between the two cells
+     */
+    private static boolean crosses(int[] cells, int cell1, int cell2) {
+        for (int i = 1; i < cells.length; i++) {
+            if ((cells[i - 1] == cell1 && cells[i] == cell2) || (cells[i - 1] == cell2 && cells[i] == cell1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if a path through the wall between cell1 and cell2
+     *          could be shorter than length
+     */
+    private static boolean canShorten(GridGraph grid, int start, int finish, int length,
+                                      int cell1, int cell2) {
+        return manhattan(grid, start, cell1) + 1 + manhattan(grid, cell2, finish) < length
+                || manhattan(grid, start, cell2) + 1 + manhattan(grid, cell1, finish) < length;
+    }
+
+    /**
+     * @return the number of moves between two cells if there were no walls
+     */
+    private static int manhattan(GridGraph grid, int a, int b) {
+        return Math.abs(grid.rowOf(a) - grid.rowOf(b)) + Math.abs(grid.colOf(a) - grid.colOf(b));
+    }
+
+    /**
+     * Counts an eviction if one is about to happen
+     */
+    private boolean evictIf(boolean evict) {
+        if (evict) {
+            this.evictions++;
+        }
+        return evict;
+    }
+}
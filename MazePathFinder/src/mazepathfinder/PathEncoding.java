@@ -0,0 +1,292 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Compact forms of a path. A path through a maze is mostly long straight
+ * runs, so instead of every cell it is kept as its moves grouped into
+ * runs, written "R12 D3 L7" for 12 moves right, 3 down and 7 left. Packed
+ * into ints, each run is its length shifted left by 2 with the direction
+ * in the low 2 bits, so the path along a corridor a million cells long is
+ * a single int. Starting cells are not part of the encoding, the caller
+ * knows where its path starts.
+ *
+ * The runs can also be written straight to an OutputStream while the
+ * predecessors of a search are walked, so answering a query never builds
+ * a cell per step. Predecessors lead back to where a search started, so
+ * to stream a path forwards search from its finish to its start.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public final class PathEncoding {
+
+    /** Direction of a move to the row above */
+    public static final int UP = 0;
+
+    /** Direction of a move to the column on the left */
+    public static final int LEFT = 1;
+
+    /** Direction of a move to the column on the right */
+    public static final int RIGHT = 2;
+
+    /** Direction of a move to the row below */
+    public static final int DOWN = 3;
+
+    /** Letter of each direction */
+    private static final char[] LETTERS = { 'U', 'L', 'R', 'D' };
+
+    private PathEncoding() {
+    }
+
+    /**
+     * @param cols number of columns of the maze
+     * @param from cell a move starts at
+     * @param to neighboring cell the move ends at
+     * @return direction of the move
+     */
+    public static int direction(int cols, int from, int to) {
+        if (to == from - cols) {
+            return UP;
+        }
+        if (to == from + cols) {
+            return DOWN;
+        }
+        return to == from - 1 ? LEFT : RIGHT;
+    }
+
+    /**
+     * Packs the moves of a path into runs
+     *
+     * @param cols number of columns of the maze
+     * @param cells cells of the path in order
+     * @param count number of cells of the path, the moves are one fewer
+     * @return length shifted left by 2 or'd with direction of every run
+     */
+    public static int[] pack(int cols, int[] cells, int count) {
+        int[] runs = new int[16];
+        int size = 0;
+        for (int i = 1; i < count; i++) {
+            int dir = direction(cols, cells[i - 1], cells[i]);
+            if (size > 0 && (runs[size - 1] & 3) == dir) {
+                runs[size - 1] += 4;
+            } else {
+                if (size == runs.length) {
+                    runs = Arrays.copyOf(runs, size * 2);
+                }
+                runs[size++] = 4 | dir;
+            }
+        }
+        return Arrays.copyOf(runs, size);
+    }
+
+    /**
+     * Packs the path the last search of an engine found from its source to
+     * a cell. The predecessors are walked from the cell back to the source,
+     * so the runs come out last first and are turned around at the end;
+     * no more than one int per run is ever held.
+     *
+     * @param engine engine whose last search reached the cell
+     * @param cell cell the path ends at
+     * @return the runs of the path, or null if the cell was not reached
+     */
+    public static int[] runsTo(BfsEngine engine, int cell) {
+        if (!engine.reached(cell)) {
+            return null;
+        }
+        int cols = engine.getGrid().numCols();
+        int[] runs = new int[16];
+        int size = 0;
+        for (int at = cell, prev = engine.predecessor(at); prev != BfsEngine.NONE;
+             at = prev, prev = engine.predecessor(at)) {
+            int dir = direction(cols, prev, at);
+            if (size > 0 && (runs[size - 1] & 3) == dir) {
+                runs[size - 1] += 4;
+            } else {
+                if (size == runs.length) {
+                    runs = Arrays.copyOf(runs, size * 2);
+                }
+                runs[size++] = 4 | dir;
+            }
+        }
+        runs = Arrays.copyOf(runs, size);
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int swap = runs[i];
+            runs[i] = runs[j];
+            runs[j] = swap;
+        }
+        return runs;
+    }
+
+    /**
+     * Writes the path from a cell back to the source of the last search
+     * of an engine as runs, while the predecessors are walked
+     *
+     * @param engine engine whose last search reached the cell
+     * @param cell cell the path starts at
+     * @param out where the runs are written, not flushed or closed
+     * @return number of moves written, or -1 if the cell was not reached
+     * @throws IOException if writing fails
+     */
+    public static long writeToSource(BfsEngine engine, int cell, OutputStream out) throws IOException {
+        if (!engine.reached(cell)) {
+            return -1;
+        }
+        RunWriter writer = new RunWriter(out, engine.getGrid().numCols());
+        for (int at = cell, next = engine.predecessor(at); next != BfsEngine.NONE;
+             at = next, next = engine.predecessor(at)) {
+            writer.move(at, next);
+        }
+        return writer.finish();
+    }
+
+    /**
+     * Follows runs from a starting cell
+     *
+     * @param cols number of columns of the maze
+     * @param start cell the path starts at
+     * @param runs runs of the path
+     * @return every cell of the path, start first
+     */
+    public static int[] unpack(int cols, int start, int[] runs) {
+        long moves = moves(runs);
+        if (moves >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("a path of " + moves + " moves does not fit in an array");
+        }
+        int[] cells = new int[(int) moves + 1];
+        cells[0] = start;
+        int i = 0;
+        int[] offsets = { -cols, -1, 1, cols };
+        for (int run : runs) {
+            int offset = offsets[run & 3];
+            for (int left = run >>> 2; left > 0; left--) {
+                cells[i + 1] = cells[i] + offset;
+                i++;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * @return number of moves in the runs
+     */
+    public static long moves(int[] runs) {
+        long moves = 0;
+        for (int run : runs) {
+            moves += run >>> 2;
+        }
+        return moves;
+    }
+
+    /**
+     * @return the runs as text, like "R12 D3 L7", empty for a path of no moves
+     */
+    public static String format(int[] runs) {
+        StringBuilder text = new StringBuilder();
+        for (int run : runs) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(LETTERS[run & 3]).append(run >>> 2);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Reads runs written by format
+     *
+     * @param text runs like "R12 D3 L7"
+     * @return the runs packed into ints
+     * @throws IllegalArgumentException if the text is not runs
+     */
+    public static int[] parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            return new int[0];
+        }
+        String[] words = trimmed.split("\\s+");
+        int[] runs = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            int dir = word.isEmpty() ? -1 : new String(LETTERS).indexOf(Character.toUpperCase(word.charAt(0)));
+            int length;
+            try {
+                length = Integer.parseInt(word.substring(1));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                length = -1;
+            }
+            if (dir < 0 || length < 1 || length > Integer.MAX_VALUE >>> 2) {
+                throw new IllegalArgumentException("\"" + word + "\" is not a run like R12");
+            }
+            runs[i] = (length << 2) | dir;
+        }
+        return runs;
+    }
+
+    /**
+     * Turns moves into runs as they come and writes each run out as soon
+     * as the next one starts, through a small buffer of its own
+     */
+    static final class RunWriter {
+
+        private final OutputStream out;
+        private final int cols;
+        private final byte[] buffer = new byte[8192];
+        private int used;
+        private int dir = -1;
+        private int length;
+        private long moves;
+
+        RunWriter(OutputStream out, int cols) {
+            this.out = out;
+            this.cols = cols;
+        }
+
+        void move(int from, int to) throws IOException {
+            int next = direction(this.cols, from, to);
+            if (next != this.dir) {
+                writeRun();
+                this.dir = next;
+            }
+            this.length++;
+            this.moves++;
+        }
+
+        /**
+         * Writes the last run and empties the buffer into the stream
+         *
+         * @return number of moves written
+         */
+        long finish() throws IOException {
+            writeRun();
+            this.out.write(this.buffer, 0, this.used);
+            this.used = 0;
+            return this.moves;
+        }
+
+        private void writeRun() throws IOException {
+            if (this.length == 0) {
+                return;
+            }
+            if (this.used + 13 > this.buffer.length) {
+                this.out.write(this.buffer, 0, this.used);
+                this.used = 0;
+            }
+            if (this.moves > this.length) {
+                this.buffer[this.used++] = ' ';
+            }
+            this.buffer[this.used++] = (byte) LETTERS[this.dir];
+            int end = this.used;
+            for (int value = this.length; value > 0; value /= 10) {
+                end++;
+            }
+            for (int at = end - 1, value = this.length; at >= this.used; at--, value /= 10) {
+                this.buffer[at] = (byte) ('0' + value % 10);
+            }
+            this.used = end;
+            this.length = 0;
+        }
+    }
+}
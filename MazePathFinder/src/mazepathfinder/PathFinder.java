@@ -0,0 +1,40 @@
+package mazepathfinder;
+
+import java.util.List;
+
+/**
+ * Interface for the algorithms that find a shortest path between two
+ * coordinates of a HedgeMaze. A path finder is built once for a maze and
+ * can answer any number of queries, but only one at a time.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public interface PathFinder {
+
+    /**
+     * Finds a shortest path between two coordinates of the maze
+     *
+     * @rit.pre both coordinates are inside of the maze
+     * @param start coordinate the path starts at
+     * @param finish coordinate the path ends at
+     * @return the coordinates from start to finish, empty if no path exists
+     */
+    List<Coordinates> findPath(Coordinates start, Coordinates finish);
+
+    /**
+     * @return number of nodes the last query took off of its open list
+     */
+    int getNodesExpanded();
+
+    /**
+     * @return largest number of nodes waiting on the open list at once
+     *          during the last query
+     */
+    int getPeakFrontier();
+
+    /**
+     * @return short name of the algorithm, used when selecting it by name
+     */
+    String getName();
+}
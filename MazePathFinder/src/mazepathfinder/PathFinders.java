@@ -0,0 +1,81 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Creates the PathFinder implementations by their short names, so the
+ * algorithm can be picked from user input or the command line.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public final class PathFinders {
+
+    /** Names that create() accepts */
+    public static final List<String> NAMES = List.of("forward", "bidirectional", "astar", "jps", "parallel", "alt",
+            "hpa", "dijkstra", "junction");
+
+    private PathFinders() {
+    }
+
+    /**
+     * Creates a path finder for a maze
+     *
+     * @param name one of NAMES, case does not matter
+     * @param hedgeMaze maze the path finder searches
+     * @return the new path finder
+     * @throws IllegalArgumentException if the name is not known
+     */
+    public static PathFinder create(String name, HedgeMaze hedgeMaze) {
+        try {
+            return create(name, hedgeMaze, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a path finder for a maze that was loaded from a file. Path
+     * finders that precompute an index keep it next to the maze file and
+     * reuse it the next time, and dijkstra reads the cell costs kept next
+     * to it, if there are any.
+     *
+     * @param name one of NAMES, case does not matter
+     * @param hedgeMaze maze the path finder searches
+     * @param mazeFile file the maze was loaded from, or null to keep any
+     *                 index in memory only
+     * @return the new path finder
+     * @throws IllegalArgumentException if the name is not known
+     * @throws IOException if a saved index can't be read or written
+     */
+    public static PathFinder create(String name, HedgeMaze hedgeMaze, String mazeFile)
+            throws IOException {
+        switch (name.toLowerCase()) {
+            case "forward":
+                return new BfsPathFinder(hedgeMaze, BreadthFirstSearch.Mode.FORWARD);
+            case "bidirectional":
+                return new BfsPathFinder(hedgeMaze, BreadthFirstSearch.Mode.BIDIRECTIONAL);
+            case "astar":
+                return new AStarPathFinder(hedgeMaze);
+            case "jps":
+                return new JumpPointPathFinder(hedgeMaze);
+            case "parallel":
+                return new ParallelBfsPathFinder(hedgeMaze);
+            case "alt":
+                return new AltPathFinder(hedgeMaze, mazeFile == null
+                        ? LandmarkIndex.build(hedgeMaze, LandmarkIndex.DEFAULT_LANDMARKS)
+                        : LandmarkIndex.loadOrBuild(hedgeMaze, mazeFile, LandmarkIndex.DEFAULT_LANDMARKS));
+            case "hpa":
+                return new HierarchicalPathFinder(hedgeMaze);
+            case "dijkstra":
+                return new DijkstraPathFinder(hedgeMaze, CellCosts.forMaze(mazeFile, hedgeMaze.getGrid()));
+            case "junction":
+                return new JunctionPathFinder(hedgeMaze);
+            default:
+                throw new IllegalArgumentException("Unknown path finder " + name
+                        + ", expected one of " + String.join("|", NAMES));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package mazepathfinder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Keeps histograms of what every search costs: wall time, nodes expanded,
+ * the largest frontier, the length of the path found and the bytes the
+ * searching thread allocated. The numbers come from the PathFinder
+ * counters, so recording one search is a few atomic adds and no search
+ * is slowed down by being measured.
+ *
+ * One instance can be shared by any number of threads. It can be
+ * registered with the platform MBean server and read through JMX, and
+ * getSummary gives the same numbers as text for a periodic dump.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class SearchMetrics implements SearchMetricsMXBean {
+
+    /** Measures allocation of the current thread, null if the JVM can't */
+    private static final com.sun.management.ThreadMXBean ALLOCATION = allocationBean();
+
+    /** Wall time of every search in nanoseconds */
+    private final Histogram nanos = new Histogram();
+
+    /** Nodes expanded by every search */
+    private final Histogram expanded = new Histogram();
+
+    /** Largest frontier of every search */
+    private final Histogram frontier = new Histogram();
+
+    /** Bytes allocated by every search */
+    private final Histogram allocated = new Histogram();
+
+    /** Length in moves of every path found */
+    private final Histogram pathLength = new Histogram();
+
+    /** Number of queries that had no path */
+    private final AtomicLong notFound = new AtomicLong();
+
+    /** Wall time of the slowest search so far */
+    private final AtomicLong slowestNanos = new AtomicLong(-1);
+
+    /** Description of the slowest search so far */
+    private volatile String slowest = "none";
+
+    /**
+     * Records one search. Returns true if it is the slowest one so far,
+     * so the caller can describe it with setSlowest; most searches are
+     * not, and don't need a description built.
+     *
+     * @param wallNanos wall time of the search
+     * @param nodesExpanded nodes the search expanded
+     * @param peakFrontier largest frontier of the search
+     * @param allocatedBytes bytes allocated by the search, negative if unknown
+     * @return true if no slower search has been recorded
+     */
+    public boolean recordSearch(long wallNanos, long nodesExpanded, long peakFrontier, long allocatedBytes) {
+        nanos.record(wallNanos);
+        expanded.record(nodesExpanded);
+        frontier.record(peakFrontier);
+        if (allocatedBytes >= 0) {
+            allocated.record(allocatedBytes);
+        }
+        return wallNanos > slowestNanos.get();
+    }
+
+    /**
+     * Records the answer to one query
+     *
+     * @param moves length of the path found in moves, negative if there
+     *              was no path
+     */
+    public void recordPath(long moves) {
+        if (moves < 0) {
+            notFound.incrementAndGet();
+        } else {
+            pathLength.record(moves);
+        }
+    }
+
+    /**
+     * Describes the slowest search, ignored if a slower one was set by
+     * another thread in the meantime
+     *
+     * @param wallNanos wall time of the search
+     * @param description what was searched
+     */
+    public synchronized void setSlowest(long wallNanos, String description) {
+        if (wallNanos > slowestNanos.get()) {
+            slowestNanos.set(wallNanos);
+            slowest = description + " in " + wallNanos / 1000 + " us";
+        }
+    }
+
+    /**
+     * @return bytes allocated by the current thread so far, or -1 if the
+     *          JVM can't tell
+     */
+    public static long allocatedBytes() {
+        return ALLOCATION == null ? -1 : ALLOCATION.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * mazepathfinder:type=SearchMetrics,name=name
+     *
+     * @param name name that tells these metrics apart from others
+     * @throws JMException if the name is taken or can't be used
+     */
+    public void register(String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                new ObjectName("mazepathfinder:type=SearchMetrics,name=" + ObjectName.quote(name)));
+    }
+
+    /**
+     * @return the allocation counter of the JVM if it has one that is on
+     */
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()) {
+            if (!sun.isThreadAllocatedMemoryEnabled()) {
+                sun.setThreadAllocatedMemoryEnabled(true);
+            }
+            return sun;
+        }
+        return null;
+    }
+
+    @Override
+    public long getSearches() {
+        return nanos.getCount();
+    }
+
+    @Override
+    public long getQueries() {
+        return pathLength.getCount() + notFound.get();
+    }
+
+    @Override
+    public long getPathsNotFound() {
+        return notFound.get();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return nanos.getMean() / 1000;
+    }
+
+    @Override
+    public long getP50Micros() {
+        return nanos.percentile(50) / 1000;
+    }
+
+    @Override
+    public long getP99Micros() {
+        return nanos.percentile(99) / 1000;
+    }
+
+    @Override
+    public long getMaxMicros() {
+        return nanos.getMax() / 1000;
+    }
+
+    @Override
+    public double getMeanNodesExpanded() {
+        return expanded.getMean();
+    }
+
+    @Override
+    public long getP99NodesExpanded() {
+        return expanded.percentile(99);
+    }
+
+    @Override
+    public long getMaxPeakFrontier() {
+        return frontier.getMax();
+    }
+
+    @Override
+    public double getMeanPathLength() {
+        return pathLength.getMean();
+    }
+
+    @Override
+    public long getMaxPathLength() {
+        return pathLength.getMax();
+    }
+
+    @Override
+    public double getMeanAllocatedBytes() {
+        return allocated.getMean();
+    }
+
+    @Override
+    public String getSlowestSearch() {
+        return slowest;
+    }
+
+    @Override
+    public String getSummary() {
+        return "searches " + getSearches() + ", queries " + getQueries() + ", no path " + notFound.get()
+                + System.lineSeparator() + "  wall ns    " + nanos
+                + System.lineSeparator() + "  expanded   " + expanded
+                + System.lineSeparator() + "  frontier   " + frontier
+                + System.lineSeparator() + "  path moves " + pathLength
+                + System.lineSeparator() + "  alloc B    " + (ALLOCATION == null ? "not measured" : allocated)
+                + System.lineSeparator() + "  slowest    " + slowest;
+    }
+
+    @Override
+    public synchronized void reset() {
+        nanos.reset();
+        expanded.reset();
+        frontier.reset();
+        allocated.reset();
+        pathLength.reset();
+        notFound.set(0);
+        slowestNanos.set(-1);
+        slowest = "none";
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
@@ -0,0 +1,94 @@
+package mazepathfinder;
+
+/**
+ * What SearchMetrics shows through JMX, so a running maze server can be
+ * watched from jconsole or any other JMX client. Times are in
+ * microseconds and percentiles are the estimates of Histogram.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public interface SearchMetricsMXBean {
+
+    /**
+     * @return number of searches recorded
+     */
+    long getSearches();
+
+    /**
+     * @return number of queries answered, more than the searches when one
+     *          search answers several queries
+     */
+    long getQueries();
+
+    /**
+     * @return number of queries that had no path
+     */
+    long getPathsNotFound();
+
+    /**
+     * @return average wall time of a search
+     */
+    double getMeanMicros();
+
+    /**
+     * @return median wall time of a search
+     */
+    long getP50Micros();
+
+    /**
+     * @return 99th percentile wall time of a search
+     */
+    long getP99Micros();
+
+    /**
+     * @return longest wall time of a search
+     */
+    long getMaxMicros();
+
+    /**
+     * @return average number of nodes expanded by a search
+     */
+    double getMeanNodesExpanded();
+
+    /**
+     * @return 99th percentile of the nodes expanded by a search
+     */
+    long getP99NodesExpanded();
+
+    /**
+     * @return largest frontier any search has had
+     */
+    long getMaxPeakFrontier();
+
+    /**
+     * @return average length in moves of the paths found
+     */
+    double getMeanPathLength();
+
+    /**
+     * @return longest path found, in moves
+     */
+    long getMaxPathLength();
+
+    /**
+     * @return average number of bytes allocated by a search, 0 if the JVM
+     *          can't measure it
+     */
+    double getMeanAllocatedBytes();
+
+    /**
+     * @return the slowest search and how long it took
+     */
+    String getSlowestSearch();
+
+    /**
+     * @return every histogram as text, one per line
+     */
+    String getSummary();
+
+    /**
+     * Forgets everything recorded so far
+     */
+    void reset();
+}
@@ -0,0 +1,272 @@
+package mazepathfinder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MazeGrid backed by a tiled maze file (see TiledMazeFormat). Tiles are
+ * read from the file the first time a cell in them is asked about and
+ * kept in a least recently used cache that holds as many tiles as the
+ * memory budget allows, so a maze of a billion cells can be searched with
+ * a few megabytes of tiles on the heap. The tile asked about last is
+ * remembered outside of the cache, and since a search mostly looks at
+ * cells next to each other most lookups never touch the cache at all.
+ *
+ * Walls that lead off of the maze are closed as tiles are read, so the
+ * searches can trust the bits the same way they trust a GridGraph.
+ *
+ * A TiledGrid is not thread safe, each thread needs its own. A read that
+ * fails after the grid is open is thrown as an UncheckedIOException.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class TiledGrid implements MazeGrid, Closeable {
+
+    /** Fewest tiles cached whatever the budget, enough for a cell and its neighbors */
+    public static final int MIN_TILES = 4;
+
+    /** The tiled maze file */
+    private final FileChannel channel;
+
+    /** Number of rows in the maze */
+    private final int rows;
+
+    /** Number of columns in the maze */
+    private final int cols;
+
+    /** Side of a tile in cells */
+    private final int tile;
+
+    /** log2 of the side of a tile */
+    private final int shift;
+
+    /** Number of tiles across the maze */
+    private final int tilesAcross;
+
+    /** Number of longs in one tile */
+    private final int tileWords;
+
+    /** Most tiles held at once */
+    private final int capacity;
+
+    /** Tiles held, by tile number, least recently used first */
+    private final LinkedHashMap<Integer, long[]> tiles;
+
+    /** Buffer tiles are read through */
+    private final ByteBuffer buf;
+
+    /** Number of the tile looked at last, -1 before the first lookup */
+    private int lastId = -1;
+
+    /** The tile looked at last */
+    private long[] lastTile;
+
+    /** Array of the tile evicted last, reused for the next tile read */
+    private long[] spare;
+
+    /** Number of tiles read from the file */
+    private long loads;
+
+    /** Number of tiles dropped from the cache */
+    private long evictions;
+
+    /**
+     * Opens a tiled maze file
+     *
+     * @param fileName location of the tiled maze
+     * @param memoryBytes most bytes of tiles to hold at once, at least
+     *                    MIN_TILES tiles are held whatever it is
+     * @throws MazeFormatException if the header or the size of the file is wrong
+     * @throws IOException if the file can't be read for any other reason
+     */
+    public TiledGrid(String fileName, long memoryBytes) throws IOException {
+        this.channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ);
+        try {
+            int[] header = TiledMazeFormat.readHeader(this.channel, fileName);
+            this.rows = header[0];
+            this.cols = header[1];
+            this.tile = header[2];
+        } catch (IOException e) {
+            this.channel.close();
+            throw e;
+        }
+        this.shift = Integer.numberOfTrailingZeros(this.tile);
+        this.tilesAcross = TiledMazeFormat.tilesFor(this.cols, this.tile);
+        int tileBytes = TiledMazeFormat.tileBytes(this.tile);
+        this.tileWords = tileBytes / 8;
+        long total = (long) this.tilesAcross * TiledMazeFormat.tilesFor(this.rows, this.tile);
+        this.capacity = (int) Math.min(total, Math.max(MIN_TILES, memoryBytes / tileBytes));
+        this.buf = ByteBuffer.allocateDirect(tileBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, long[]> eldest) {
+                if (size() > capacity) {
+                    spare = eldest.getValue();
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public int numRows() {
+        return this.rows;
+    }
+
+    @Override
+    public int numCols() {
+        return this.cols;
+    }
+
+    @Override
+    public int rowOf(int cell) {
+        return cell / this.cols;
+    }
+
+    @Override
+    public int colOf(int cell) {
+        return cell % this.cols;
+    }
+
+    @Override
+    public int bits(int cell) {
+        int r = cell / this.cols;
+        int c = cell - r * this.cols;
+        int mask = this.tile - 1;
+        long[] words = tile((r >>> this.shift) * this.tilesAcross + (c >>> this.shift));
+        int local = ((r & mask) << this.shift) | (c & mask);
+        return (int) (words[local >>> 5] >>> ((local & 31) << 1)) & 3;
+    }
+
+    /**
+     * @return side of a tile in cells
+     */
+    public int getTileSize() {
+        return this.tile;
+    }
+
+    /**
+     * @return most tiles held at once
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return number of tiles read from the file so far
+     */
+    public long getLoads() {
+        return this.loads;
+    }
+
+    /**
+     * @return number of tiles dropped from the cache so far
+     */
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Closes the file, the grid can't be used afterwards
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * @return how many tiles have been read and dropped and how many are held
+     */
+    @Override
+    public String toString() {
+        return "tiles: " + this.loads + " read, " + this.evictions + " evicted, " + this.tiles.size()
+                + " of " + this.capacity + " held (" + this.tile + "x" + this.tile + " cells, "
+                + TiledMazeFormat.tileBytes(this.tile) + " bytes each)";
+    }
+
+    /**
+     * Finds a tile, reading it from the file if it isn't cached
+     *
+     * @param id number of the tile
+     * @return the packed bits of the tile
+     */
+    private long[] tile(int id) {
+        if (id == this.lastId) {
+            return this.lastTile;
+        }
+        long[] words = this.tiles.get(id);
+        if (words == null) {
+            words = load(id);
+        }
+        this.lastId = id;
+        this.lastTile = words;
+        return words;
+    }
+
+    /**
+     * Reads a tile from the file and caches it, which may evict the least
+     * recently used tile
+     *
+     * @param id number of the tile
+     * @return the packed bits of the tile
+     */
+    private long[] load(int id) {
+        long[] words = this.spare != null ? this.spare : new long[this.tileWords];
+        this.spare = null;
+        long position = TiledMazeFormat.HEADER_BYTES + (long) id * this.buf.capacity();
+        try {
+            this.buf.clear();
+            while (this.buf.hasRemaining()) {
+                if (this.channel.read(this.buf, position + this.buf.position()) < 0) {
+                    throw new IOException("tiled maze file ends inside of tile " + id);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.buf.flip();
+        this.buf.asLongBuffer().get(words);
+        closeEdges(id, words);
+        this.loads++;
+        this.tiles.put(id, words);
+        return words;
+    }
+
+    /**
+     * Closes every wall of a tile on the right or bottom edge that leads
+     * off of the maze, including the walls of the padding cells
+     *
+     * @param id number of the tile
+     * @param words packed bits of the tile
+     */
+    private void closeEdges(int id, long[] words) {
+        int top = id / this.tilesAcross * this.tile;
+        int left = id % this.tilesAcross * this.tile;
+        if (left + this.tile < this.cols && top + this.tile < this.rows) {
+            return;
+        }
+        for (int lr = 0; lr < this.tile; lr++) {
+            for (int lc = 0; lc < this.tile; lc++) {
+                int r = top + lr;
+                int c = left + lc;
+                int keep = r >= this.rows || c >= this.cols ? 0
+                        : (c == this.cols - 1 ? 0 : GridGraph.EAST) | (r == this.rows - 1 ? 0 : GridGraph.SOUTH);
+                int local = (lr << this.shift) | lc;
+                words[local >>> 5] &= ~((long) (3 & ~keep) << ((local & 31) << 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes the tiled maze format, which splits a maze into square
+ * tiles so that TiledGrid can page it in a tile at a time instead of
+ * holding it all on the heap. A tiled maze file is a 24 byte header
+ * followed by the tiles:
+ *
+ *   bytes 0-3   magic "HMZT"
+ *   bytes 4-7   format version
+ *   bytes 8-11  number of rows
+ *   bytes 12-15 number of columns
+ *   bytes 16-19 side of a tile in cells, a power of two from 8 to 4096
+ *   bytes 20-23 zero
+ *   then        every tile, left to right then top to bottom
+ *
+ * A tile holds side x side cells, row by row, packed 2 bits a cell into
+ * little endian longs just like BinaryMazeFormat packs a whole maze. Tiles
+ * on the right and bottom edges are padded to full size with closed
+ * walls, so every tile has the same size and tile n starts at
+ * 24 + n * side * side / 4.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public final class TiledMazeFormat {
+
+    /** First four bytes of every tiled maze file */
+    public static final int MAGIC = ('H' << 24) | ('M' << 16) | ('Z' << 8) | 'T';
+
+    /** Version written into new files */
+    public static final int VERSION = 1;
+
+    /** Size of the header in bytes, keeps the tiles 8 byte aligned */
+    public static final int HEADER_BYTES = 24;
+
+    /** Side of a tile when none is given, 16KB a tile */
+    public static final int DEFAULT_TILE = 256;
+
+    /** Smallest side of a tile, one long a row */
+    public static final int MIN_TILE = 8;
+
+    /** Largest side of a tile, 4MB a tile */
+    public static final int MAX_TILE = 4096;
+
+    private TiledMazeFormat() {
+    }
+
+    /**
+     * Checks the first bytes of a file for the tiled magic number
+     *
+     * @param fileName file to check
+     * @return true if the file is a tiled maze, false if it is anything else
+     * @throws IOException if the file can't be read
+     */
+    public static boolean isTiled(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until four bytes or the end of the file
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Reads a whole tiled maze file onto the heap, for mazes small enough
+     * to fit
+     *
+     * @param fileName location of the tiled maze
+     * @return the grid of the maze
+     * @throws MazeFormatException if the header or the size of the file is wrong
+     * @throws IOException if the file can't be read for any other reason
+     */
+    public static GridGraph read(String fileName) throws IOException {
+        try (TiledGrid tiles = new TiledGrid(fileName, 0)) {
+            int rows = tiles.numRows();
+            int cols = tiles.numCols();
+            int tile = tiles.getTileSize();
+            GridGraph grid = new GridGraph(rows, cols);
+            // a tile at a time, so every tile is read from the file once
+            for (int top = 0; top < rows; top += tile) {
+                for (int left = 0; left < cols; left += tile) {
+                    for (int r = top; r < Math.min(rows, top + tile); r++) {
+                        for (int c = left; c < Math.min(cols, left + tile); c++) {
+                            int cell = grid.index(r, c);
+                            int bits = tiles.bits(cell);
+                            if ((bits & GridGraph.EAST) != 0) {
+                                grid.openEast(cell);
+                            }
+                            if ((bits & GridGraph.SOUTH) != 0) {
+                                grid.openSouth(cell);
+                            }
+                        }
+                    }
+                }
+            }
+            return grid;
+        }
+    }
+
+    /**
+     * Writes a grid as a tiled maze file, replacing the file if it exists
+     *
+     * @param grid grid to write
+     * @param fileName location of the tiled maze
+     * @param tile side of a tile in cells
+     * @throws IOException if the file can't be written
+     * @throws IllegalArgumentException if the side of a tile is not allowed
+     */
+    public static void write(MazeGrid grid, String fileName, int tile) throws IOException {
+        int rows = grid.numRows();
+        int cols = grid.numCols();
+        try (TiledMazeWriter writer = new TiledMazeWriter(fileName, rows, cols, tile)) {
+            boolean[] east = new boolean[cols];
+            boolean[] south = new boolean[cols];
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int bits = grid.bits(grid.index(r, c));
+                    east[c] = (bits & GridGraph.EAST) != 0;
+                    south[c] = (bits & GridGraph.SOUTH) != 0;
+                }
+                writer.writeRow(east, south);
+            }
+        }
+    }
+
+    /**
+     * Converts a maze file in any format to the tiled format
+     *
+     * @param from maze file to read
+     * @param to tiled maze file to write
+     * @param tile side of a tile in cells
+     * @throws IOException if either file can't be used
+     */
+    public static void convert(String from, String to, int tile) throws IOException {
+        write(new HedgeMaze(from).getGrid(), to, tile);
+    }
+
+    /**
+     * Checks the side of a tile
+     *
+     * @param tile side of a tile in cells
+     * @return true if it is a power of two from MIN_TILE to MAX_TILE
+     */
+    public static boolean isValidTile(int tile) {
+        return tile >= MIN_TILE && tile <= MAX_TILE && Integer.bitCount(tile) == 1;
+    }
+
+    /**
+     * Number of bytes one tile takes up in the file
+     *
+     * @param tile side of a tile in cells
+     * @return tile * tile / 4
+     */
+    static int tileBytes(int tile) {
+        return tile * tile / 4;
+    }
+
+    /**
+     * Reads and checks the header and the size of a tiled maze file
+     *
+     * @param channel open file
+     * @param fileName name of the file, for error messages
+     * @return rows, columns and side of a tile
+     * @throws MazeFormatException if the file is not a valid tiled maze
+     * @throws IOException if the file can't be read
+     */
+    static int[] readHeader(FileChannel channel, String fileName) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES) {
+            throw error(fileName, 0, "file is shorter than the header");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw error(fileName, header.position(), "file ends inside of the header");
+            }
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw error(fileName, 0, "not a tiled maze file");
+        }
+        int version = header.getInt(4);
+        if (version != VERSION) {
+            throw error(fileName, 4, "unsupported version " + version);
+        }
+        int rows = header.getInt(8);
+        int cols = header.getInt(12);
+        if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw error(fileName, 8, "unsupported maze size " + rows + "x" + cols);
+        }
+        int tile = header.getInt(16);
+        if (!isValidTile(tile)) {
+            throw error(fileName, 16, "unsupported tile size " + tile);
+        }
+        long expected = HEADER_BYTES + (long) tilesFor(rows, tile) * tilesFor(cols, tile) * tileBytes(tile);
+        if (size != expected) {
+            throw error(fileName, HEADER_BYTES, "expected " + expected + " bytes for a " + rows + "x" + cols
+                    + " maze in " + tile + "x" + tile + " tiles but the file has " + size);
+        }
+        return new int[] { rows, cols, tile };
+    }
+
+    /**
+     * Builds the header of a tiled maze file
+     *
+     * @return the header, ready to be written
+     */
+    static ByteBuffer header(int rows, int cols, int tile) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(tile).putInt(0);
+        return header.flip();
+    }
+
+    /**
+     * @return number of tiles needed to cover a length of cells
+     */
+    static int tilesFor(int cells, int tile) {
+        return (cells + tile - 1) / tile;
+    }
+
+    /**
+     * @return an exception pointing at a byte offset of the file
+     */
+    private static MazeFormatException error(String fileName, long offset, String message) {
+        return new MazeFormatException(fileName, "byte " + offset + ": " + message);
+    }
+}
@@ -0,0 +1,159 @@
+package mazepathfinder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes mazes in the tiled format of TiledMazeFormat one row at a time.
+ * Only one band of tiles (side rows of the maze) is held in memory, and
+ * the band is written out as soon as its last row comes in, so mazes far
+ * bigger than the heap can be generated straight into a tiled file.
+ *
+ * Passages leading off of the maze are dropped, so the east wall of the
+ * last column and the south wall of the last row are always closed.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class TiledMazeWriter implements Closeable {
+
+    /** Size of the buffer used when writing a band */
+    private static final int WRITE_BUFFER = 1 << 20;
+
+    /** Where the tiles go */
+    private final FileChannel channel;
+
+    /** Number of rows of the maze */
+    private final int rows;
+
+    /** Number of columns of the maze */
+    private final int cols;
+
+    /** Side of a tile in cells */
+    private final int tile;
+
+    /** log2 of the side of a tile */
+    private final int shift;
+
+    /** Number of longs in one tile */
+    private final int tileWords;
+
+    /** Tiles of the band being filled, one after the other */
+    private final long[] band;
+
+    /** Staging buffer for the file */
+    private final ByteBuffer buf;
+
+    /** Number of rows written so far */
+    private int written;
+
+    /**
+     * Constructor that creates the file and writes its header right away
+     *
+     * @param fileName location of the tiled maze, replaced if it exists
+     * @param rows number of rows of the maze
+     * @param cols number of columns of the maze
+     * @param tile side of a tile in cells
+     * @throws IOException if the file can't be written
+     * @throws IllegalArgumentException if the size of the maze or of a tile
+     *          is not supported
+     */
+    public TiledMazeWriter(String fileName, int rows, int cols, int tile) throws IOException {
+        if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported maze size " + rows + "x" + cols);
+        }
+        if (!TiledMazeFormat.isValidTile(tile)) {
+            throw new IllegalArgumentException("Tile size must be a power of two from "
+                    + TiledMazeFormat.MIN_TILE + " to " + TiledMazeFormat.MAX_TILE + ", not " + tile);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.tile = tile;
+        this.shift = Integer.numberOfTrailingZeros(tile);
+        this.tileWords = TiledMazeFormat.tileBytes(tile) / 8;
+        this.band = new long[TiledMazeFormat.tilesFor(cols, tile) * this.tileWords];
+        this.buf = ByteBuffer.allocateDirect(WRITE_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        this.channel = FileChannel.open(Path.of(fileName), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = TiledMazeFormat.header(rows, cols, tile);
+        while (header.hasRemaining()) {
+            this.channel.write(header);
+        }
+    }
+
+    /**
+     * Writes the next row of the maze
+     *
+     * @param east true at every column whose east wall is open
+     * @param south true at every column whose south wall is open, ignored
+     *              for the last row
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if every row has been written already
+     */
+    public void writeRow(boolean[] east, boolean[] south) throws IOException {
+        if (this.written == this.rows) {
+            throw new IllegalStateException("all " + this.rows + " rows are written");
+        }
+        int mask = this.tile - 1;
+        int rowBase = (this.written & mask) << this.shift;
+        boolean lastRow = this.written == this.rows - 1;
+        for (int c = 0; c < this.cols; c++) {
+            int bits = (east[c] && c < this.cols - 1 ? GridGraph.EAST : 0)
+                    | (south[c] && !lastRow ? GridGraph.SOUTH : 0);
+            if (bits != 0) {
+                int local = rowBase | (c & mask);
+                this.band[(c >>> this.shift) * this.tileWords + (local >>> 5)] |= (long) bits << ((local & 31) << 1);
+            }
+        }
+        this.written++;
+        if ((this.written & mask) == 0 || this.written == this.rows) {
+            writeBand();
+        }
+    }
+
+    /**
+     * Closes the file
+     *
+     * @throws IOException if closing fails
+     * @throws IllegalStateException if some rows were never written, the
+     *          file is closed anyway and is not a valid maze
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+        if (this.written != this.rows) {
+            throw new IllegalStateException("only " + this.written + " of " + this.rows + " rows were written");
+        }
+    }
+
+    /**
+     * Writes out the band of tiles and empties it for the next rows
+     */
+    private void writeBand() throws IOException {
+        for (long word : this.band) {
+            if (!this.buf.hasRemaining()) {
+                drain();
+            }
+            this.buf.putLong(word);
+        }
+        drain();
+        Arrays.fill(this.band, 0);
+    }
+
+    /**
+     * Writes out everything in the buffer and empties it
+     */
+    private void drain() throws IOException {
+        this.buf.flip();
+        while (this.buf.hasRemaining()) {
+            this.channel.write(this.buf);
+        }
+        this.buf.clear();
+    }
+}
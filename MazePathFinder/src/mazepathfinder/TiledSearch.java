@@ -0,0 +1,386 @@
+package mazepathfinder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Breadth First Search and A* over any MazeGrid, built for mazes too big
+ * for the per-cell arrays that BfsEngine and AStarPathFinder allocate.
+ * The only thing kept per cell is 4 bits saying which neighbor it was
+ * reached from, and those bits are allocated in blocks of 64 x 64 cells
+ * as the search first reaches a block. A query near its start touches a
+ * handful of blocks however big the maze is, and the memory a search may
+ * use for its blocks is capped by a budget.
+ *
+ * Paired with a TiledGrid this searches mazes of a billion cells with
+ * bounded memory for both the walls and the search. A* relies on the
+ * Manhattan distance never overestimating, so a cell is settled the first
+ * time it comes off of the open list and only its direction has to be
+ * remembered; its steps travel with it inside of the heap key.
+ *
+ * A TiledSearch is not thread safe, each thread needs its own.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public class TiledSearch {
+
+    /** log2 of the side of a block of search state */
+    private static final int BLOCK_SHIFT = 6;
+
+    /** Side of a block of search state in cells */
+    private static final int BLOCK_SIDE = 1 << BLOCK_SHIFT;
+
+    /** Longs in a block, 16 cells of 4 bits to a long */
+    private static final int BLOCK_WORDS = BLOCK_SIDE * BLOCK_SIDE / 16;
+
+    /** Bytes in a block */
+    public static final int BLOCK_BYTES = BLOCK_WORDS * 8;
+
+    /** State of a cell no search has reached */
+    private static final int UNSEEN = 0;
+
+    /** State of a cell reached from the cell north of it */
+    private static final int FROM_NORTH = 1;
+
+    /** State of a cell reached from the cell west of it */
+    private static final int FROM_WEST = 2;
+
+    /** State of a cell reached from the cell east of it */
+    private static final int FROM_EAST = 3;
+
+    /** State of a cell reached from the cell south of it */
+    private static final int FROM_SOUTH = 4;
+
+    /** State of the cell the search started from */
+    private static final int SOURCE = 5;
+
+    /** Largest step count kept exactly in a heap key, only used to break ties */
+    private static final int MAX_TIE = (1 << 29) - 1;
+
+    /** The grid being searched */
+    private final MazeGrid grid;
+
+    /** Number of columns of the grid */
+    private final int cols;
+
+    /** Number of blocks across the grid */
+    private final int blocksAcross;
+
+    /** Most blocks one search may use */
+    private final long maxBlocks;
+
+    /** Search state of every block reached by the current search, null elsewhere */
+    private final long[][] blocks;
+
+    /** Numbers of the blocks reached by the current search */
+    private final IntQueue touched = new IntQueue();
+
+    /** Blocks of earlier searches, cleared and ready to reuse */
+    private final ArrayDeque<long[]> spare = new ArrayDeque<>();
+
+    /** Frontier of Breadth First Search */
+    private final IntQueue queue = new IntQueue();
+
+    /** Open list of A*, keyed by estimated total length, steps and direction */
+    private final IntMinHeap open = new IntMinHeap();
+
+    /** Scratch array the neighbors of a cell are written into */
+    private final int[] nbrs = new int[4];
+
+    /** Number of cells expanded by the last search */
+    private int expanded;
+
+    /** Largest frontier of the last search */
+    private int peakFrontier;
+
+    /**
+     * Creates a search for the grid passed in
+     *
+     * @param grid grid to search
+     * @param memoryBytes most bytes of search state one search may use,
+     *                    at least one block is always allowed
+     */
+    public TiledSearch(MazeGrid grid, long memoryBytes) {
+        this.grid = grid;
+        this.cols = grid.numCols();
+        this.blocksAcross = (this.cols + BLOCK_SIDE - 1) >>> BLOCK_SHIFT;
+        int blocksDown = (grid.numRows() + BLOCK_SIDE - 1) >>> BLOCK_SHIFT;
+        this.blocks = new long[this.blocksAcross * blocksDown][];
+        this.maxBlocks = Math.max(1, memoryBytes / BLOCK_BYTES);
+    }
+
+    /**
+     * Finds a shortest path with Breadth First Search
+     *
+     * @param start cell the path starts at
+     * @param finish cell the path ends at
+     * @return the cells of the path from start to finish, empty if there
+     *          is no path
+     * @throws IllegalStateException if the search needs more memory than
+     *          its budget
+     */
+    public int[] bfs(int start, int finish) {
+        return reachBfs(start, finish) ? buildPath(finish) : new int[0];
+    }
+
+    /**
+     * Runs Breadth First Search until the finish is reached
+     *
+     * @return true if the finish was reached
+     */
+    private boolean reachBfs(int start, int finish) {
+        reset();
+        IntQueue queue = this.queue;
+        queue.clear();
+        this.peakFrontier = 1;
+        set(start, SOURCE);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            if (queue.size() > this.peakFrontier) {
+                this.peakFrontier = queue.size();
+            }
+            int current = queue.remove();
+            this.expanded++;
+            if (current == finish) {
+                return true;
+            }
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (get(nbr) == UNSEEN) {
+                    set(nbr, direction(current, nbr));
+                    queue.add(nbr);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds a shortest path with A* and the Manhattan distance. Ties go to
+     * the cell furthest from the start, like AStarPathFinder.
+     *
+     * @param start cell the path starts at
+     * @param finish cell the path ends at
+     * @return the cells of the path from start to finish, empty if there
+     *          is no path
+     * @throws IllegalStateException if the search needs more memory than
+     *          its budget
+     */
+    public int[] astar(int start, int finish) {
+        return reachAstar(start, finish) ? buildPath(finish) : new int[0];
+    }
+
+    /**
+     * Runs A* until the finish is reached
+     *
+     * @return true if the finish was reached
+     */
+    private boolean reachAstar(int start, int finish) {
+        reset();
+        IntMinHeap open = this.open;
+        open.clear();
+        this.peakFrontier = 1;
+        int finishRow = grid.rowOf(finish);
+        int finishCol = grid.colOf(finish);
+        open.push(key(0, estimate(start, finishRow, finishCol), SOURCE), start);
+        while (!open.isEmpty()) {
+            if (open.size() > this.peakFrontier) {
+                this.peakFrontier = open.size();
+            }
+            long key = open.peekKey();
+            int current = open.pop();
+            if (get(current) != UNSEEN) {
+                continue;
+            }
+            set(current, (int) key & 7);
+            this.expanded++;
+            if (current == finish) {
+                return true;
+            }
+            int steps = (int) (key >>> 32) - estimate(current, finishRow, finishCol) + 1;
+            int count = grid.neighbors(current, nbrs);
+            for (int i = 0; i < count; i++) {
+                int nbr = nbrs[i];
+                if (get(nbr) == UNSEEN) {
+                    open.push(key(steps, estimate(nbr, finishRow, finishCol), direction(current, nbr)), nbr);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds a shortest path and writes it as runs like "R12 D3 L7", see
+     * PathEncoding. The search goes from the finish to the start, so the
+     * directions it leaves behind lead from the start to the finish and
+     * the runs are written while they are followed, without ever holding
+     * the cells of the path.
+     *
+     * @param start cell the path starts at
+     * @param finish cell the path ends at
+     * @param astar true to search with A*, false for Breadth First Search
+     * @param out where the runs are written, not flushed or closed
+     * @return number of moves on the path, or -1 if there is no path
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if the search needs more memory than
+     *          its budget
+     */
+    public long writeRuns(int start, int finish, boolean astar, OutputStream out) throws IOException {
+        if (!(astar ? reachAstar(finish, start) : reachBfs(finish, start))) {
+            return -1;
+        }
+        PathEncoding.RunWriter writer = new PathEncoding.RunWriter(out, this.cols);
+        int at = start;
+        while (get(at) != SOURCE) {
+            int next = previous(at);
+            writer.move(at, next);
+            at = next;
+        }
+        return writer.finish();
+    }
+
+    /**
+     * @return number of cells expanded by the last search
+     */
+    public int getExpanded() {
+        return this.expanded;
+    }
+
+    /**
+     * @return largest frontier of the last search
+     */
+    public int getPeakFrontier() {
+        return this.peakFrontier;
+    }
+
+    /**
+     * @return bytes of search state the last search used
+     */
+    public long getMemoryUsed() {
+        return (long) this.touched.size() * BLOCK_BYTES;
+    }
+
+    /**
+     * Orders by estimated total length first, then prefers the most steps
+     * taken, and carries the direction the cell was reached from in the
+     * lowest 3 bits. The steps are exact in the high half, as the estimated
+     * total minus the estimate, so the tie breaker can saturate.
+     */
+    private static long key(int steps, int estimate, int from) {
+        return ((long) (steps + estimate) << 32) | ((long) (MAX_TIE - Math.min(steps, MAX_TIE)) << 3) | from;
+    }
+
+    /**
+     * @return Manhattan distance between a cell and the finish
+     */
+    private int estimate(int cell, int finishRow, int finishCol) {
+        int r = cell / this.cols;
+        return Math.abs(r - finishRow) + Math.abs(cell - r * this.cols - finishCol);
+    }
+
+    /**
+     * @return state saying which side of next the cell current is on
+     */
+    private int direction(int current, int next) {
+        if (next == current - this.cols) {
+            return FROM_SOUTH;
+        }
+        if (next == current + this.cols) {
+            return FROM_NORTH;
+        }
+        return next == current - 1 ? FROM_EAST : FROM_WEST;
+    }
+
+    /**
+     * Walks the directions back from the finish, once to count the steps
+     * and once to fill in the path
+     *
+     * @return the cells of the path from the start to the finish
+     */
+    private int[] buildPath(int finish) {
+        int length = 1;
+        for (int at = finish; get(at) != SOURCE; at = previous(at)) {
+            length++;
+        }
+        int[] path = new int[length];
+        int at = finish;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = at;
+            if (i > 0) {
+                at = previous(at);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * @return the cell a reached cell was reached from
+     */
+    private int previous(int cell) {
+        switch (get(cell)) {
+            case FROM_NORTH:
+                return cell - this.cols;
+            case FROM_WEST:
+                return cell - 1;
+            case FROM_EAST:
+                return cell + 1;
+            default:
+                return cell + this.cols;
+        }
+    }
+
+    /**
+     * @return the state of a cell in the current search
+     */
+    private int get(int cell) {
+        int r = cell / this.cols;
+        int c = cell - r * this.cols;
+        long[] block = this.blocks[(r >>> BLOCK_SHIFT) * this.blocksAcross + (c >>> BLOCK_SHIFT)];
+        if (block == null) {
+            return UNSEEN;
+        }
+        int local = ((r & (BLOCK_SIDE - 1)) << BLOCK_SHIFT) | (c & (BLOCK_SIDE - 1));
+        return (int) (block[local >>> 4] >>> ((local & 15) << 2)) & 15;
+    }
+
+    /**
+     * Sets the state of an unseen cell, allocating its block if the
+     * search hasn't reached the block yet
+     */
+    private void set(int cell, int state) {
+        int r = cell / this.cols;
+        int c = cell - r * this.cols;
+        int id = (r >>> BLOCK_SHIFT) * this.blocksAcross + (c >>> BLOCK_SHIFT);
+        long[] block = this.blocks[id];
+        if (block == null) {
+            if (this.touched.size() >= this.maxBlocks) {
+                throw new IllegalStateException("search needs more than its budget of "
+                        + this.maxBlocks * BLOCK_BYTES + " bytes after expanding " + this.expanded + " cells");
+            }
+            block = this.spare.isEmpty() ? new long[BLOCK_WORDS] : this.spare.pop();
+            this.blocks[id] = block;
+            this.touched.add(id);
+        }
+        int local = ((r & (BLOCK_SIDE - 1)) << BLOCK_SHIFT) | (c & (BLOCK_SIDE - 1));
+        block[local >>> 4] |= (long) state << ((local & 15) << 2);
+    }
+
+    /**
+     * Clears the blocks of the last search and keeps them for reuse
+     */
+    private void reset() {
+        this.expanded = 0;
+        while (!this.touched.isEmpty()) {
+            int id = this.touched.remove();
+            long[] block = this.blocks[id];
+            Arrays.fill(block, 0);
+            this.blocks[id] = null;
+            this.spare.push(block);
+        }
+        this.touched.clear();
+    }
+}
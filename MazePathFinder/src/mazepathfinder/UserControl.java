@@ -0,0 +1,338 @@
+package mazepathfinder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class stores the HedgeMaze and prompts the user
+ * to enter a starting and ending coordinate for the Breadth First Search
+ * algorithm.
+ *
+ * @date 07/11/2022
+ * @author Andrew Photinakis
+ */
+public class UserControl {
+
+    /**
+     * Number of query results kept in the cache
+     */
+    private static final int CACHE_PATHS = 1024;
+
+    /**
+     * Number of whole search trees kept in the cache
+     */
+    private static final int CACHE_TREES = 8;
+
+    /**
+     * Holds the maze
+     */
+    private final HedgeMaze hMaze;
+
+    /**
+     * File the maze was loaded from, indexes are saved next to it
+     */
+    private final String fileName;
+
+    /**
+     * Path finders created so far, by name, each reused for every query
+     */
+    private final Map<String, PathFinder> finders = new HashMap<>();
+
+    /**
+     * Results of earlier queries, shared by every path finder
+     */
+    private final PathCache cache = new PathCache(CACHE_PATHS, CACHE_TREES, 2);
+
+    /**
+     * Cost of every query, shown by the metrics command and through JMX
+     */
+    private final SearchMetrics metrics = new SearchMetrics();
+
+    /**
+     * Algorithm the next queries are searched with, changed with the mode command
+     */
+    private PathFinder finder;
+
+    /**
+     * Engine for the searches between several starts and pots of gold,
+     * created on first use
+     */
+    private BfsEngine nearestEngine;
+
+    /**
+     * Path found by the last query, drawn by the show command
+     */
+    private Collection<Coordinates> lastPath;
+
+    /**
+     * UserControl constructor that takes in a maze file,
+     * creates the maze along with its adjacency list, and
+     * prints out the maze for the user to see
+     *
+     * @param fileName the hedge maze description file
+     * @throws IOException if there is a problem reading the file
+     */
+    public UserControl(String fileName) throws IOException {
+        hMaze = new HedgeMaze(fileName);
+        this.fileName = fileName;
+        finder = new InstrumentedPathFinder(
+                new CachingPathFinder(hMaze, PathFinders.create("forward", hMaze), cache), metrics);
+        finders.put(finder.getName(), finder);
+        hMaze.printAdjacencyList();
+        System.out.println();
+        hMaze.printLayout();
+    }
+
+    /**
+     * Method that prompts the user for start and end positions in the maze
+     * and calls to execute Breadth First Search on the maze using the user prompts.
+     * Entering "mode" and the name of an algorithm (forward, bidirectional,
+     * astar, jps, parallel, alt, hpa, dijkstra or junction) instead of a start changes how
+     * the following queries are searched, dijkstra going by the cell costs kept
+     * next to the maze file. Entering "cache" prints how well the cache of earlier
+     * results is doing, and "metrics" prints what the queries so far have
+     * cost. "open r1 c1 r2 c2" and "close r1 c1 r2 c2" change
+     * the wall between two neighboring cells, and "show" draws the maze with
+     * the last path found on it. Several starts or pots of gold can be given
+     * separated by semicolons, like "0 0; 4 7", and then the closest pair
+     * between them is found with a single search.
+     */
+    public void doUserInput() throws IOException {
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        String line;
+        while (true) {
+            System.out.print("Enter starting coordinates. (row, then column) ");
+            line = in.readLine();
+            if (Objects.equals(line, "quit")) {
+                return;
+            }
+            if (Objects.equals(line, "show")) {
+                new MazeRenderer(hMaze).writeAscii(System.out, lastPath);
+                continue;
+            }
+            if (Objects.equals(line, "cache")) {
+                System.out.println(cache);
+                continue;
+            }
+            if (Objects.equals(line, "metrics")) {
+                System.out.println(metrics);
+                continue;
+            }
+            if (line != null && (line.startsWith("open") || line.startsWith("close"))) {
+                changeWall(line);
+                continue;
+            }
+            if (line != null && line.startsWith("mode")) {
+                changeMode(line);
+                continue;
+            }
+            List<Coordinates> starts;
+            try {
+                starts = convertStringtoCords(line);
+            } catch (Exception e) {
+                System.out.println(e.getMessage());
+                continue;
+            }
+            System.out.print("Enter pot of gold coordinates. (row, then column) ");
+            line = in.readLine();
+
+            List<Coordinates> finishes;
+            try {
+                finishes = convertStringtoCords(line);
+            } catch (Exception e) {
+                System.out.println(e.getMessage());
+                continue;
+            }
+            if (starts.size() > 1 || finishes.size() > 1) {
+                findNearest(starts, finishes);
+                continue;
+            }
+            Coordinates start = starts.get(0);
+            Coordinates finish = finishes.get(0);
+            System.out.println("Currently finding the shortest path...");
+            Collection<Coordinates> pathFound = finder.findPath(start, finish);
+            lastPath = pathFound;
+            if (pathFound.isEmpty()) {
+                System.out.println("No path was found.");
+            } else {
+                System.out.print("The path is ");
+                for (Coordinates co : pathFound) {
+                    System.out.print(co + " ");
+                }
+                System.out.println();
+            }
+            System.out.println(finder.getNodesExpanded() + " nodes expanded by " + finder.getName());
+        }
+    }
+
+    /**
+     * Finds the closest pair between several starts and pots of gold with
+     * one search and prints it along with its path
+     *
+     * @param starts coordinates the path may start at
+     * @param finishes coordinates the path may end at
+     */
+    private void findNearest(List<Coordinates> starts, List<Coordinates> finishes) {
+        if (nearestEngine == null) {
+            nearestEngine = new BfsEngine(hMaze.getGrid());
+        }
+        System.out.println("Currently finding the closest pot of gold...");
+        long begin = System.nanoTime();
+        List<Coordinates> pathFound = BreadthFirstSearch.findNearest(hMaze, nearestEngine, starts, finishes);
+        long nanos = System.nanoTime() - begin;
+        if (metrics.recordSearch(nanos, nearestEngine.getExpanded(), nearestEngine.getPeakFrontier(), -1)) {
+            metrics.setSlowest(nanos, "nearest " + starts + " to " + finishes);
+        }
+        metrics.recordPath(pathFound.size() - 1);
+        lastPath = pathFound;
+        if (pathFound.isEmpty()) {
+            System.out.println("No path was found.");
+        } else {
+            System.out.println("The closest pair is " + pathFound.get(0) + " to "
+                    + pathFound.get(pathFound.size() - 1) + ", " + (pathFound.size() - 1) + " moves apart.");
+            System.out.print("The path is ");
+            for (Coordinates co : pathFound) {
+                System.out.print(co + " ");
+            }
+            System.out.println();
+        }
+        System.out.println(nearestEngine.getExpanded() + " nodes expanded by nearest");
+    }
+
+    /**
+     * @return cost of every query answered so far
+     */
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Takes in a mode command and changes the path finder used by the
+     * following queries
+     *
+     * @param line mode command from the user
+     */
+    private void changeMode(String line) {
+        String[] lineArr = line.trim().split("\\s+");
+        if (lineArr.length == 2 && PathFinders.NAMES.contains(lineArr[1].toLowerCase())) {
+            String name = lineArr[1].toLowerCase();
+            try {
+                if (!finders.containsKey(name)) {
+                    PathFinder created = PathFinders.create(name, hMaze, fileName);
+                    // the cache holds paths with the fewest moves, which are not the cheapest ones
+                    if (!(created instanceof DijkstraPathFinder)) {
+                        created = new CachingPathFinder(hMaze, created, cache);
+                    }
+                    finders.put(name, new InstrumentedPathFinder(created, metrics));
+                }
+                finder = finders.get(name);
+                System.out.println("Search mode is now " + finder.getName());
+            } catch (IOException e) {
+                System.out.println("Could not set up " + name + ": " + e.getMessage());
+            }
+            return;
+        }
+        System.out.println("Usage: mode " + String.join("|", PathFinders.NAMES));
+    }
+
+    /**
+     * Takes in an open or close command and changes the wall between the
+     * two cells it names
+     *
+     * @param line open or close command from the user
+     */
+    private void changeWall(String line) {
+        String[] lineArr = line.trim().split("\\s+");
+        boolean open = lineArr[0].equals("open");
+        if (lineArr.length == 5 && (open || lineArr[0].equals("close"))) {
+            try {
+                Coordinates cell1 = convertStringtoCord(lineArr[1] + " " + lineArr[2]);
+                Coordinates cell2 = convertStringtoCord(lineArr[3] + " " + lineArr[4]);
+                boolean changed = open ? hMaze.openWall(cell1, cell2) : hMaze.closeWall(cell1, cell2);
+                System.out.println("The wall between " + cell1 + " and " + cell2
+                        + (changed ? " is now " : " was already ") + (open ? "open." : "closed."));
+            } catch (Exception e) {
+                System.out.println(e.getMessage());
+            }
+            return;
+        }
+        System.out.println("Usage: open|close r1 c1 r2 c2");
+    }
+
+    /**
+     * Takes in a coordinate to be converted and turns it into a Node
+     *
+     * @param cordToConvert coordinate to be converted
+     * @return node version of the coordinate
+     */
+    private Node convertCordtoNode(Coordinates cordToConvert) {
+
+        String rowStr = String.valueOf(cordToConvert.row());
+        String colStr = String.valueOf(cordToConvert.col());
+        StringBuilder result = new StringBuilder();
+        result.append("(").append(rowStr).append(",").append(colStr).append(")");
+
+        return new Node(result.toString());
+    }
+
+    /**
+     * Takes in a string line holding one or more coordinates separated by
+     * semicolons and converts each of them
+     *
+     * @param line input from the user
+     * @return the coordinates in the order they were given
+     * @throws Exception one of the coordinates is not valid
+     */
+    private List<Coordinates> convertStringtoCords(String line) throws Exception {
+        if (line == null || line.indexOf(';') < 0) {
+            return List.of(convertStringtoCord(line));
+        }
+        List<Coordinates> cords = new ArrayList<>();
+        for (String part : line.split(";")) {
+            if (!part.isBlank()) {
+                cords.add(convertStringtoCord(part.trim()));
+            }
+        }
+        if (cords.isEmpty()) {
+            throw new Exception("Not the right number of items");
+        }
+        return cords;
+    }
+
+    /**
+     * Takes in a string line and converts the string input into a coordinate
+     *
+     * @param line input from the user
+     * @return new coordinate from the user input that was a string
+     * @throws Exception input from the user is not valid
+     */
+    private Coordinates convertStringtoCord(String line) throws Exception {
+
+        String[] lineArr = line.split("\\s+");
+        int rowCord;
+        int colCord;
+        try {
+            if (lineArr.length != 2) {
+                throw new Exception("Not the right number of items");
+            }
+            rowCord = Integer.parseInt(lineArr[0]);
+            colCord = Integer.parseInt(lineArr[1]);
+            if (!hMaze.contains(rowCord, colCord)) {
+                throw new Exception(rowCord + "," + colCord + " is not a valid cell location.");
+            }
+        } catch (NumberFormatException e) {
+            throw new Exception("Input was of a non-Integer value");
+        }
+        return new Coordinates(rowCord, colCord);
+    }
+
+
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package mazepathfinder;
+
+/**
+ * Told about every wall that is opened or closed in a HedgeMaze, so that
+ * anything computed from the old walls can be repaired.
+ *
+ * @date 10/18/2026
+ * @author Andrew Photinakis
+ */
+public interface WallListener {
+
+    /**
+     * Called after the wall between two neighboring cells changed
+     *
+     * @param hMaze maze whose wall changed
+     * @param cell1 cell on one side of the wall
+     * @param cell2 cell on the other side of the wall
+     * @param open true if the wall was opened, false if it was closed
+     */
+    void wallChanged(HedgeMaze hMaze, int cell1, int cell2, boolean open);
+}